@@ -0,0 +1,99 @@
+-- Random (v4) versus time-ordered (v7) UUID keys on an attempt_entries-shaped table.
+--
+-- Run against a scratch PostgreSQL 13+ database (needs the pgstattuple contrib extension):
+--   psql -d codeclimb_bench -f backend/bench/uuid_keys.sql
+-- Each variant seeds seed_rows rows, then inserts insert_rows more in batches of batch_size and reports throughput,
+-- WAL volume, and how many leaf pages the primary key and the (user_id, list_id, neet250_id, updated_at) index
+-- gained, along with their final size and leaf density. Nothing is deleted, so every added leaf page is one split:
+-- v7 keys split the rightmost page and leave full pages behind, v4 keys split pages all over the index and leave
+-- them about two thirds full. The throughput gap grows once the indexes no longer fit in shared_buffers.
+
+create extension if not exists pgstattuple;
+
+drop table if exists bench_settings, bench_results, bench_v4, bench_v7;
+
+create table bench_settings as
+select 2000000 as seed_rows, 200000 as insert_rows, 1000 as batch_size, 20000 as users;
+
+create table bench_results (
+    variant text primary key,
+    insert_rows bigint,
+    insert_seconds numeric,
+    rows_per_second numeric,
+    wal_mb numeric,
+    pk_leaf_pages_added bigint,
+    pk_mb numeric,
+    pk_leaf_density numeric,
+    user_idx_leaf_pages_added bigint,
+    user_idx_mb numeric,
+    user_idx_leaf_density numeric
+);
+
+-- UUIDv7 (RFC 9562): 48-bit Unix milliseconds, version 7, random remainder.
+create or replace function pg_temp.uuid_v7() returns uuid language sql volatile as $$
+    select encode(set_bit(set_bit(overlay(uuid_send(gen_random_uuid())
+        placing substring(int8send(floor(extract(epoch from clock_timestamp()) * 1000)::bigint) from 3) from 1 for 6),
+        52, 1), 53, 1), 'hex')::uuid
+$$;
+
+create or replace function pg_temp.next_id(variant text) returns uuid language sql volatile as $$
+    select case variant when 'v7' then pg_temp.uuid_v7() else gen_random_uuid() end
+$$;
+
+create or replace function pg_temp.run(variant text) returns void language plpgsql as $$
+declare
+    s bench_settings;
+    tbl text := 'bench_' || variant;
+    started timestamptz;
+    wal_before pg_lsn;
+    pk_before bigint;
+    user_before bigint;
+    inserted bigint := 0;
+begin
+    select * into s from bench_settings;
+    execute format('create table %I (
+        id uuid primary key,
+        user_id uuid not null,
+        list_id uuid not null,
+        neet250_id integer not null,
+        notes text,
+        updated_at timestamptz not null)', tbl);
+    execute format('create index %I on %I (user_id, list_id, neet250_id, updated_at desc)', tbl || '_user', tbl);
+    execute format('create temp table %I as select g - 1 as n, pg_temp.next_id(%L) as user_id,
+                    pg_temp.next_id(%L) as list_id from generate_series(1, %s) g', tbl || '_users', variant, variant, s.users);
+    execute format('create index on %I (n)', tbl || '_users');
+
+    execute format('insert into %1$I select pg_temp.next_id(%2$L), u.user_id, u.list_id, (g %% 250) + 1, ''seed'', now()
+                    from generate_series(1, %3$s) g join %4$I u on u.n = g %% %5$s',
+                   tbl, variant, s.seed_rows, tbl || '_users', s.users);
+
+    select leaf_pages into pk_before from pgstatindex(tbl || '_pkey');
+    select leaf_pages into user_before from pgstatindex(tbl || '_user');
+    wal_before := pg_current_wal_insert_lsn();
+    started := clock_timestamp();
+    while inserted < s.insert_rows loop
+        execute format('insert into %1$I select pg_temp.next_id(%2$L), u.user_id, u.list_id, (g %% 250) + 1, ''steady'', now()
+                        from generate_series(1, %3$s) g join %4$I u on u.n = (g * 7919 + %5$s) %% %6$s',
+                       tbl, variant, s.batch_size, tbl || '_users', inserted, s.users);
+        inserted := inserted + s.batch_size;
+    end loop;
+
+    insert into bench_results
+    select variant, inserted,
+           round(extract(epoch from clock_timestamp() - started)::numeric, 2),
+           round(inserted / extract(epoch from clock_timestamp() - started)::numeric),
+           round(pg_wal_lsn_diff(pg_current_wal_insert_lsn(), wal_before) / 1048576.0, 1),
+           pk.leaf_pages - pk_before,
+           round(pg_relation_size(tbl || '_pkey') / 1048576.0, 1),
+           round(pk.avg_leaf_density::numeric, 1),
+           ui.leaf_pages - user_before,
+           round(pg_relation_size(tbl || '_user') / 1048576.0, 1),
+           round(ui.avg_leaf_density::numeric, 1)
+    from pgstatindex(tbl || '_pkey') pk, pgstatindex(tbl || '_user') ui;
+end
+$$;
+
+select pg_temp.run('v4');
+select pg_temp.run('v7');
+
+select * from bench_results order by variant;
@@ -0,0 +1,23 @@
+package com.codeclimb.backend.config;
+
+import com.codeclimb.backend.service.IdGenerator;
+import com.codeclimb.backend.service.TimeOrderedIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.util.UUID;
+
+@Configuration
+public class IdConfig {
+
+    @Bean
+    IdGenerator idGenerator(@Value("${app.ids.generator:time-ordered}") String generator) {
+        return switch (generator.toLowerCase()) {
+            case "time-ordered" -> new TimeOrderedIdGenerator(Clock.systemUTC());
+            case "random" -> UUID::randomUUID;
+            default -> throw new IllegalArgumentException("app.ids.generator must be one of: time-ordered, random");
+        };
+    }
+}
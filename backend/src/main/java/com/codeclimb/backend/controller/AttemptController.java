@@ -1,7 +1,14 @@
 package com.codeclimb.backend.controller;
 
 import com.codeclimb.backend.dto.AttemptDtos;
+import com.codeclimb.backend.service.AttemptExportService;
+import com.codeclimb.backend.service.AttemptSearchService;
 import com.codeclimb.backend.service.AttemptService;
+import com.codeclimb.backend.service.ExportFormat;
+import com.codeclimb.backend.service.HistoryPage;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,9 +16,13 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,17 +30,32 @@ import java.util.UUID;
 @RequestMapping
 public class AttemptController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final AttemptService attemptService;
+    private final AttemptSearchService attemptSearchService;
+    private final AttemptExportService attemptExportService;
 
-    public AttemptController(AttemptService attemptService) {
+    public AttemptController(AttemptService attemptService, AttemptSearchService attemptSearchService,
+                             AttemptExportService attemptExportService) {
         this.attemptService = attemptService;
+        this.attemptSearchService = attemptSearchService;
+        this.attemptExportService = attemptExportService;
     }
 
     @PostMapping("/lists/{listId}/problems/{neetId}/attempts")
     public AttemptDtos.AttemptResponse create(Authentication authentication, @PathVariable UUID listId,
                                               @PathVariable Integer neetId,
+                                              @RequestHeader(name = "Idempotency-Key", required = false) String draftId,
                                               @RequestBody AttemptDtos.UpsertAttemptRequest request) {
-        return attemptService.create(ControllerSupport.userId(authentication), listId, neetId, request);
+        return attemptService.createDraft(ControllerSupport.userId(authentication), listId, neetId, draftId, request);
+    }
+
+    @PostMapping("/lists/{listId}/attempts:batch")
+    public AttemptDtos.BatchAttemptResponse createAll(Authentication authentication, @PathVariable UUID listId,
+                                                      @RequestBody AttemptDtos.BatchAttemptRequest request) {
+        return attemptService.createAll(ControllerSupport.userId(authentication), listId, request);
     }
 
     @PatchMapping("/attempts/{attemptId}")
@@ -44,8 +70,45 @@ public class AttemptController {
     }
 
     @GetMapping("/lists/{listId}/problems/{neetId}/attempts")
-    public List<AttemptDtos.AttemptResponse> history(Authentication authentication, @PathVariable UUID listId,
-                                                     @PathVariable Integer neetId) {
-        return attemptService.history(ControllerSupport.userId(authentication), listId, neetId);
+    public void history(Authentication authentication, @PathVariable UUID listId, @PathVariable Integer neetId,
+                        WebRequest webRequest, HttpServletResponse response) throws IOException {
+        attemptService.writeHistory(ControllerSupport.userId(authentication), listId, neetId,
+                ControllerSupport.streamBody(webRequest, response));
+    }
+
+    @GetMapping(value = "/lists/{listId}/problems/{neetId}/attempts", params = "limit")
+    public List<AttemptDtos.AttemptResponse> historyPage(Authentication authentication, @PathVariable UUID listId,
+                                                         @PathVariable Integer neetId,
+                                                         @RequestParam int limit,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "false") boolean count,
+                                                         HttpServletResponse response) {
+        HistoryPage page = attemptService.historyPage(ControllerSupport.userId(authentication), listId, neetId,
+                limit, cursor, count);
+        if (page.nextCursor() != null) {
+            response.setHeader(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        if (page.total() != null) {
+            response.setHeader(TOTAL_COUNT_HEADER, Long.toString(page.total()));
+        }
+        return page.attempts();
+    }
+
+    @GetMapping("/export/attempts")
+    public void export(Authentication authentication, @RequestParam(defaultValue = "ndjson") String format,
+                       HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("codeclimb-attempts." + exportFormat.extension).build().toString());
+        attemptExportService.write(ControllerSupport.userId(authentication), exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/lists/{listId}/attempts/search")
+    public List<AttemptDtos.AttemptSearchHit> search(Authentication authentication, @PathVariable UUID listId,
+                                                     @RequestParam String q,
+                                                     @RequestParam(defaultValue = "20") int limit,
+                                                     @RequestParam(defaultValue = "0") int offset) {
+        return attemptSearchService.search(ControllerSupport.userId(authentication), listId, q, limit, offset);
     }
 }
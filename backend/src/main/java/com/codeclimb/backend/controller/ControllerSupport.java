@@ -1,15 +1,64 @@
 package com.codeclimb.backend.controller;
 
 import com.codeclimb.backend.auth.CurrentUser;
+import jakarta.servlet.http.HttpServletResponse;
+import com.codeclimb.backend.service.StreamBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 
 public final class ControllerSupport {
 
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
     private ControllerSupport() {}
 
     public static UUID userId(Authentication authentication) {
         return ((CurrentUser) authentication.getPrincipal()).id();
     }
+
+    /**
+     * Sets the ETag header and answers {@code If-None-Match}; when this returns true the response is a 304
+     * and the handler should return null without computing the body. Smile and JSON bodies get distinct tags, and
+     * tags are weak so Tomcat still gzips the response.
+     */
+    public static boolean notModified(WebRequest webRequest, Optional<String> etag) {
+        if (webRequest instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return etag.isPresent()
+                && webRequest.checkNotModified("W/\"" + etag.get() + (acceptsSmile(webRequest) ? "-smile" : "") + "\"");
+    }
+
+    /** Prepares a handler that writes its own body, for responses streamed as the rows are read. */
+    public static StreamBody streamBody(WebRequest webRequest, HttpServletResponse response) throws IOException {
+        boolean smile = acceptsSmile(webRequest);
+        response.setContentType(smile ? SMILE_VALUE : MediaType.APPLICATION_JSON_VALUE);
+        return new StreamBody(response.getOutputStream(), smile);
+    }
+
+    /** True when the Accept header ranks Smile at least as high as JSON; a missing header or a wildcard gets JSON. */
+    public static boolean acceptsSmile(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || !accept.contains(SMILE_VALUE)) {
+            return false;
+        }
+        double smileQuality = 0;
+        double jsonQuality = 0;
+        for (MediaType type : MediaType.parseMediaTypes(accept)) {
+            if (type.equalsTypeAndSubtype(SMILE)) {
+                smileQuality = Math.max(smileQuality, type.getQualityValue());
+            } else if (type.includes(MediaType.APPLICATION_JSON)) {
+                jsonQuality = Math.max(jsonQuality, type.getQualityValue());
+            }
+        }
+        return smileQuality > 0 && smileQuality >= jsonQuality;
+    }
 }
@@ -1,29 +1,63 @@
 package com.codeclimb.backend.controller;
 
 import com.codeclimb.backend.dto.DashboardDtos;
-import com.codeclimb.backend.service.DashboardService;
+import com.codeclimb.backend.service.ActivityWindow;
+import com.codeclimb.backend.service.DashboardCache;
+import com.codeclimb.backend.service.DataVersionService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 @RestController
 @RequestMapping("/dashboard")
 public class DashboardController {
 
-    private final DashboardService dashboardService;
+    private final DashboardCache dashboardCache;
+    private final DataVersionService dataVersionService;
 
-    public DashboardController(DashboardService dashboardService) {
-        this.dashboardService = dashboardService;
+    public DashboardController(DashboardCache dashboardCache, DataVersionService dataVersionService) {
+        this.dashboardCache = dashboardCache;
+        this.dataVersionService = dataVersionService;
     }
 
     @GetMapping
     public DashboardDtos.DashboardResponse get(Authentication authentication,
                                                @RequestParam(defaultValue = "latest") String scope,
-                                               @RequestParam(required = false) UUID listId) {
-        return dashboardService.getDashboard(ControllerSupport.userId(authentication), scope, listId);
+                                               @RequestParam(required = false) UUID listId,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                               @RequestParam(defaultValue = "days") String activity,
+                                               WebRequest webRequest) {
+        ActivityWindow window = ActivityWindow.of(from, to, activity);
+        UUID userId = ControllerSupport.userId(authentication);
+        if (ControllerSupport.notModified(webRequest, dataVersionService.dashboardTag(userId))) {
+            return null;
+        }
+        return window.apply(dashboardCache.get(userId, scope, listId));
+    }
+
+    @PostMapping("/batch")
+    public DashboardDtos.BatchDashboardResponse batch(Authentication authentication,
+                                                      @Valid @RequestBody DashboardDtos.BatchDashboardRequest request) {
+        List<ActivityWindow> windows = request.requests().stream()
+                .map(entry -> ActivityWindow.of(entry.from(), entry.to(), entry.activity() == null ? "days" : entry.activity()))
+                .toList();
+        List<DashboardDtos.DashboardResponse> dashboards =
+                dashboardCache.getAll(ControllerSupport.userId(authentication), request.requests());
+        return new DashboardDtos.BatchDashboardResponse(IntStream.range(0, dashboards.size())
+                .mapToObj(index -> windows.get(index).apply(dashboards.get(index)))
+                .toList());
     }
 }
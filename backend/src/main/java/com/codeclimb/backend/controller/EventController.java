@@ -0,0 +1,25 @@
+package com.codeclimb.backend.controller;
+
+import com.codeclimb.backend.service.ProgressStream;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/events")
+public class EventController {
+
+    private final ProgressStream progressStream;
+
+    public EventController(ProgressStream progressStream) {
+        this.progressStream = progressStream;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication) {
+        return progressStream.subscribe(ControllerSupport.userId(authentication));
+    }
+}
@@ -1,6 +1,7 @@
 package com.codeclimb.backend.controller;
 
 import com.codeclimb.backend.dto.ListDtos;
+import com.codeclimb.backend.service.DataVersionService;
 import com.codeclimb.backend.service.ListService;
 import jakarta.validation.Valid;
 import org.springframework.security.core.Authentication;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,9 +22,11 @@ import java.util.UUID;
 public class ListController {
 
     private final ListService listService;
+    private final DataVersionService dataVersionService;
 
-    public ListController(ListService listService) {
+    public ListController(ListService listService, DataVersionService dataVersionService) {
         this.listService = listService;
+        this.dataVersionService = dataVersionService;
     }
 
     @PostMapping
@@ -31,8 +35,12 @@ public class ListController {
     }
 
     @GetMapping
-    public List<ListDtos.ListResponse> list(Authentication authentication) {
-        return listService.list(ControllerSupport.userId(authentication));
+    public List<ListDtos.ListResponse> list(Authentication authentication, WebRequest webRequest) {
+        UUID userId = ControllerSupport.userId(authentication);
+        if (ControllerSupport.notModified(webRequest, dataVersionService.userTag(userId))) {
+            return null;
+        }
+        return listService.list(userId);
     }
 
     @PatchMapping("/{id}")
@@ -1,29 +1,85 @@
 package com.codeclimb.backend.controller;
 
 import com.codeclimb.backend.dto.ProblemDtos;
+import com.codeclimb.backend.service.DataVersionService;
+import com.codeclimb.backend.service.ProblemFilter;
 import com.codeclimb.backend.service.ProblemService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/lists")
 public class ProblemController {
 
+    static final String CURSOR_HEADER = "X-Cursor";
+
     private final ProblemService problemService;
+    private final DataVersionService dataVersionService;
 
-    public ProblemController(ProblemService problemService) {
+    public ProblemController(ProblemService problemService, DataVersionService dataVersionService) {
         this.problemService = problemService;
+        this.dataVersionService = dataVersionService;
     }
 
     @GetMapping("/{listId}/problems")
-    public List<ProblemDtos.ProblemWithLatestAttemptResponse> listWithLatestAttempt(Authentication authentication,
-                                                                                     @PathVariable UUID listId) {
-        return problemService.listWithLatestAttempt(ControllerSupport.userId(authentication), listId);
+    public void listWithLatestAttempt(Authentication authentication,
+                                      @PathVariable UUID listId,
+                                      ProblemDtos.ProblemQuery query,
+                                      WebRequest webRequest,
+                                      HttpServletResponse response) throws IOException {
+        UUID userId = ControllerSupport.userId(authentication);
+        ProblemFilter filter = ProblemFilter.of(query);
+        if (!notModified(userId, listId, webRequest, response)) {
+            problemService.writeWithLatestAttempt(userId, listId, filter, ControllerSupport.streamBody(webRequest, response));
+        }
+    }
+
+    @GetMapping(value = "/{listId}/problems", params = {"compact=true", "!since"})
+    public void listCompact(Authentication authentication,
+                            @PathVariable UUID listId,
+                            ProblemDtos.ProblemQuery query,
+                            WebRequest webRequest,
+                            HttpServletResponse response) throws IOException {
+        UUID userId = ControllerSupport.userId(authentication);
+        ProblemFilter filter = ProblemFilter.of(query);
+        if (!notModified(userId, listId, webRequest, response)) {
+            problemService.writeCompact(userId, listId, filter, ControllerSupport.streamBody(webRequest, response));
+        }
+    }
+
+    @GetMapping("/{listId}/problems/{neetId}/notes")
+    public ProblemDtos.ProblemNotesResponse notes(Authentication authentication,
+                                                  @PathVariable UUID listId,
+                                                  @PathVariable Integer neetId,
+                                                  WebRequest webRequest) {
+        UUID userId = ControllerSupport.userId(authentication);
+        if (ControllerSupport.notModified(webRequest, dataVersionService.listTag(userId, listId))) {
+            return null;
+        }
+        return problemService.notes(userId, listId, neetId);
+    }
+
+    @GetMapping(value = "/{listId}/problems", params = "since")
+    public ProblemDtos.ProblemChangesResponse changesSince(Authentication authentication,
+                                                          @PathVariable UUID listId,
+                                                          @RequestParam long since) {
+        return problemService.changesSince(ControllerSupport.userId(authentication), listId, since);
+    }
+
+    /** Sends the cursor the rows are read at, then answers {@code If-None-Match} against the list's tag. */
+    private boolean notModified(UUID userId, UUID listId, WebRequest webRequest, HttpServletResponse response) {
+        Optional<Long> version = dataVersionService.listVersion(userId, listId);
+        version.ifPresent(cursor -> response.setHeader(CURSOR_HEADER, Long.toString(cursor)));
+        return ControllerSupport.notModified(webRequest, version.map(cursor -> DataVersionService.listTag(listId, cursor)));
     }
 }
@@ -0,0 +1,53 @@
+package com.codeclimb.backend.controller;
+
+import com.codeclimb.backend.service.BadRequestException;
+import com.codeclimb.backend.service.CatalogFragments;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/templates")
+public class TemplateController {
+
+    private final CatalogFragments catalogFragments;
+    private final CacheControl cacheControl;
+
+    public TemplateController(CatalogFragments catalogFragments,
+                              @Value("${app.catalog.max-age:1h}") Duration maxAge) {
+        this.catalogFragments = catalogFragments;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /** The problems of a template without any progress, served from pre-encoded bytes and gzipped ahead of time. */
+    @GetMapping("/{templateVersion}/problems")
+    public void problems(@PathVariable String templateVersion, WebRequest webRequest,
+                         HttpServletResponse response) throws IOException {
+        CatalogFragments.Fragment fragment = catalogFragments.problems(templateVersion)
+                .orElseThrow(() -> new BadRequestException("Template not found"));
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (webRequest.checkNotModified(gzip ? fragment.etag() + "-gzip" : fragment.etag())) {
+            return;
+        }
+        byte[] body = gzip ? fragment.gzip() : fragment.json();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
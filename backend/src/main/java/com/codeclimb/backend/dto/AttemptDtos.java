@@ -2,6 +2,7 @@ package com.codeclimb.backend.dto;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public class AttemptDtos {
@@ -11,4 +12,15 @@ public class AttemptDtos {
     public record AttemptResponse(UUID id, UUID listId, Integer neet250Id, Boolean solved, LocalDate dateSolved,
                                   Integer timeMinutes, Integer attempts, String confidence, String timeComplexity,
                                   String spaceComplexity, String notes, String problemUrl, OffsetDateTime updatedAt) {}
+    public record AttemptExportRow(UUID listId, String listName, Integer neet250Id, String title, String category,
+                                   String difficulty, UUID attemptId, Boolean solved, LocalDate dateSolved,
+                                   Integer timeMinutes, Integer attempts, String confidence, String timeComplexity,
+                                   String spaceComplexity, String notes, String problemUrl, OffsetDateTime createdAt,
+                                   OffsetDateTime updatedAt) {}
+    public record BatchAttemptItem(Integer neet250Id, UpsertAttemptRequest attempt) {}
+    public record BatchAttemptRequest(List<BatchAttemptItem> items) {}
+    public record BatchAttemptResult(int index, Integer neet250Id, AttemptResponse attempt, String error) {}
+    public record BatchAttemptResponse(int created, int rejected, List<BatchAttemptResult> results) {}
+    public record AttemptSearchHit(UUID attemptId, Integer neet250Id, String title, double rank, String snippet,
+                                   String timeComplexity, String spaceComplexity, OffsetDateTime updatedAt) {}
 }
@@ -1,5 +1,12 @@
 package com.codeclimb.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -10,10 +17,23 @@ public class DashboardDtos {
     public record SolvedCounts(long totalSolved, List<CategorySolvedStats> byCategory) {}
     public record RightPanel(List<ProgressItem> latestSolved, List<ProgressItem> nextUnsolved) {}
 
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"start", "length"})
+    public record ActivityRange(LocalDate start, int length) {}
+
     public record DashboardResponse(String scope, UUID latestListId, UUID listId, OffsetDateTime lastActivityAt,
                                     int streakCurrent, double streakAverage, String farthestCategory,
                                     Integer farthestOrderIndex, ProgressItem farthestProblem,
                                     SolvedCounts solvedCounts,
                                     List<String> activityDays,
-                                    RightPanel rightPanel) {}
+                                    RightPanel rightPanel,
+                                    @JsonInclude(JsonInclude.Include.NON_NULL) List<ActivityRange> activityRanges) {}
+
+    public record ScopeRequest(String scope, UUID listId, LocalDate from, LocalDate to, String activity) {
+        public ScopeRequest(String scope, UUID listId) {
+            this(scope, listId, null, null, null);
+        }
+    }
+    public record BatchDashboardRequest(@NotEmpty @Size(max = 10) List<ScopeRequest> requests) {}
+    public record BatchDashboardResponse(List<DashboardResponse> dashboards) {}
 }
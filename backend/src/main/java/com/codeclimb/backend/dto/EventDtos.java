@@ -0,0 +1,16 @@
+package com.codeclimb.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class EventDtos {
+    public record ProblemRowChanged(UUID listId, Integer neet250Id, ProblemDtos.LatestAttempt latestAttempt) {}
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public record DashboardChanged(String scope, UUID listId, Map<String, JsonNode> changes,
+                                   List<String> activityDaysAdded, List<String> activityDaysRemoved) {}
+}
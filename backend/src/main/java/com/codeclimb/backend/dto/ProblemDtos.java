@@ -2,6 +2,7 @@ package com.codeclimb.backend.dto;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.List;
 
 public class ProblemDtos {
 
@@ -12,4 +13,23 @@ public class ProblemDtos {
     public record ProblemWithLatestAttemptResponse(Integer neet250Id, Integer orderIndex, String title,
                                                    String leetcodeSlug, String category, String difficulty,
                                                    LatestAttempt latestAttempt) {}
+
+    public record CompactLatestAttempt(Boolean solved, LocalDate dateSolved, Integer timeMinutes, Integer attempts,
+                                       String confidence, String timeComplexity, String spaceComplexity,
+                                       boolean hasNotes, OffsetDateTime updatedAt) {}
+
+    public record CompactProblemResponse(Integer neet250Id, Integer orderIndex, String title,
+                                         String leetcodeSlug, String category, String difficulty,
+                                         CompactLatestAttempt latestAttempt) {}
+
+    public record CatalogProblem(Integer neet250Id, Integer orderIndex, String title, String leetcodeSlug,
+                                 String category, String difficulty) {}
+
+    public record ProblemQuery(String category, String difficulty, String status, String confidence, String sort,
+                               Integer after, Integer limit) {}
+
+    public record ProblemNotesResponse(Integer neet250Id, String notes, String problemUrl) {}
+
+    public record ProblemChangesResponse(long cursor, List<ProblemWithLatestAttemptResponse> changed,
+                                         List<Integer> removed) {}
 }
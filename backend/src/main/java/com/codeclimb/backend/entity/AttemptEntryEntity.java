@@ -8,15 +8,19 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
-@Table(name = "attempt_entries")
+@Table(name = "attempt_entries", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_attempt_entries_user_draft", columnNames = {"user_id", "draft_id"})
+})
 @Getter
 @Setter
 public class AttemptEntryEntity {
@@ -65,6 +69,9 @@ public class AttemptEntryEntity {
     @Column(name = "problem_url")
     private String problemUrl;
 
+    @Column(name = "draft_id", length = 64)
+    private String draftId;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
@@ -73,7 +80,7 @@ public class AttemptEntryEntity {
 
     @PrePersist
     void onCreate() {
-        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
         if (id == null) {
             id = UUID.randomUUID();
         }
@@ -83,6 +90,6 @@ public class AttemptEntryEntity {
 
     @PreUpdate
     void onUpdate() {
-        updatedAt = OffsetDateTime.now();
+        updatedAt = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -0,0 +1,61 @@
+package com.codeclimb.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Points each (list, problem) at its most recently updated attempt row. A null {@code attemptId} is a tombstone
+ * left when the last attempt was deleted; {@code version} is the list data version of the latest change, and
+ * {@code solved}/{@code confidence} are copied from the attempt for filtering.
+ */
+@Entity
+@Table(name = "latest_attempts")
+@IdClass(LatestAttemptEntity.Key.class)
+@Getter
+@Setter
+public class LatestAttemptEntity {
+
+    @Id
+    @Column(name = "list_id")
+    private UUID listId;
+
+    @Id
+    @Column(name = "neet250_id")
+    private Integer neet250Id;
+
+    @Column(name = "attempt_id")
+    private UUID attemptId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "solved")
+    private Boolean solved;
+
+    @Column(name = "confidence")
+    @Enumerated(EnumType.STRING)
+    private AttemptEntryEntity.ConfidenceLevel confidence;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID listId;
+        private Integer neet250Id;
+    }
+}
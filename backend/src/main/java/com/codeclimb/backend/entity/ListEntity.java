@@ -33,6 +33,9 @@ public class ListEntity {
     @Column(nullable = false)
     private boolean deprecated;
 
+    @Column(name = "data_version", nullable = false, updatable = false)
+    private long dataVersion;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
@@ -0,0 +1,71 @@
+package com.codeclimb.backend.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Entity
+@Table(name = "list_progress")
+@Getter
+@Setter
+public class ListProgressEntity {
+
+    @Id
+    @Column(name = "list_id")
+    private UUID listId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "template_version", nullable = false)
+    private String templateVersion;
+
+    /** Solved problems of the list as a bitmap indexed by {@code problems.order_index}. */
+    @Column(name = "solved_bitmap", nullable = false)
+    private byte[] solvedBitmap = new byte[0];
+
+    @Column(name = "total_solved", nullable = false)
+    private int totalSolved;
+
+    @Column(name = "farthest_order_index")
+    private Integer farthestOrderIndex;
+
+    @Column(name = "last_activity_at")
+    private OffsetDateTime lastActivityAt;
+
+    /** Epoch day of bit 0 of {@link #activityBitmap}; null while the list has no attempt days. */
+    @Column(name = "activity_base_day")
+    private Integer activityBaseDay;
+
+    /** Attempt days of the list, one bit per day from {@link #activityBaseDay}; null until first built. */
+    @Column(name = "activity_bitmap")
+    private byte[] activityBitmap;
+
+    @Column(name = "activity_day_count", nullable = false)
+    private int activityDayCount;
+
+    @Column(name = "activity_run_count", nullable = false)
+    private int activityRunCount;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "list_progress_categories", joinColumns = @JoinColumn(name = "list_id"))
+    @MapKeyColumn(name = "category")
+    @Column(name = "solved_count", nullable = false)
+    private Map<String, Integer> solvedByCategory = new HashMap<>();
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
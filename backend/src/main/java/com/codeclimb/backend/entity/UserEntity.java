@@ -30,6 +30,9 @@ public class UserEntity {
     @Column(nullable = false)
     private String timezone = "America/Chicago";
 
+    @Column(name = "data_version", nullable = false, updatable = false)
+    private long dataVersion;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
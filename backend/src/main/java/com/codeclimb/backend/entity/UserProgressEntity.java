@@ -0,0 +1,76 @@
+package com.codeclimb.backend.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/** Union of a user's {@link ListProgressEntity} rows for one template, read by the {@code all} dashboard scope. */
+@Entity
+@Table(name = "user_progress", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_user_progress_user_template", columnNames = {"user_id", "template_version"})
+})
+@Getter
+@Setter
+public class UserProgressEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "template_version", nullable = false)
+    private String templateVersion;
+
+    @Column(name = "solved_bitmap", nullable = false)
+    private byte[] solvedBitmap = new byte[0];
+
+    @Column(name = "total_solved", nullable = false)
+    private int totalSolved;
+
+    @Column(name = "last_activity_at")
+    private OffsetDateTime lastActivityAt;
+
+    @Column(name = "activity_base_day")
+    private Integer activityBaseDay;
+
+    @Column(name = "activity_bitmap", nullable = false)
+    private byte[] activityBitmap = new byte[0];
+
+    @Column(name = "activity_day_count", nullable = false)
+    private int activityDayCount;
+
+    @Column(name = "activity_run_count", nullable = false)
+    private int activityRunCount;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "user_progress_categories", joinColumns = @JoinColumn(name = "user_progress_id"))
+    @MapKeyColumn(name = "category")
+    @Column(name = "solved_count", nullable = false)
+    private Map<String, Integer> solvedByCategory = new HashMap<>();
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    @PrePersist
+    void onCreate() {
+        if (id == null) {
+            id = UUID.randomUUID();
+        }
+    }
+}
@@ -4,13 +4,16 @@ import com.codeclimb.backend.entity.AttemptEntryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface AttemptEntryRepository extends JpaRepository<AttemptEntryEntity, UUID> {
     Optional<AttemptEntryEntity> findByIdAndUserId(UUID id, UUID userId);
-    List<AttemptEntryEntity> findByUserIdAndListIdAndNeet250IdOrderByUpdatedAtDesc(UUID userId, UUID listId, Integer neet250Id);
+    Optional<AttemptEntryEntity> findByUserIdAndDraftId(UUID userId, String draftId);
+    Optional<AttemptEntryEntity> findFirstByListIdAndNeet250IdAndIdNotOrderByUpdatedAtDesc(UUID listId, Integer neet250Id, UUID id);
+    boolean existsByListIdAndNeet250IdAndSolvedTrue(UUID listId, Integer neet250Id);
 
     @Query(value = """
         select cast(list_id as varchar) from attempt_entries
@@ -23,6 +26,48 @@ public interface AttemptEntryRepository extends JpaRepository<AttemptEntryEntity
     @Query(value = """
         select max(updated_at) from attempt_entries
         where user_id = :userId and list_id = :listId
+          and (
+            solved is not null
+            or time_minutes is not null
+            or attempts is not null
+            or confidence is not null
+            or time_complexity is not null
+            or space_complexity is not null
+            or nullif(trim(notes), '') is not null
+            or nullif(trim(problem_url), '') is not null
+          )
         """, nativeQuery = true)
     Object findLastActivityAt(UUID userId, UUID listId);
+
+    @Query("""
+        select distinct a.dateSolved from AttemptEntryEntity a
+        where a.listId = :listId and a.dateSolved is not null
+          and (
+            a.solved is not null
+            or a.timeMinutes is not null
+            or a.attempts is not null
+            or a.confidence is not null
+            or a.timeComplexity is not null
+            or a.spaceComplexity is not null
+            or nullif(trim(a.notes), '') is not null
+            or nullif(trim(a.problemUrl), '') is not null
+          )
+        """)
+    List<LocalDate> findActivityDays(UUID listId);
+
+    @Query("""
+        select case when count(a) > 0 then true else false end from AttemptEntryEntity a
+        where a.listId = :listId and a.dateSolved = :day
+          and (
+            a.solved is not null
+            or a.timeMinutes is not null
+            or a.attempts is not null
+            or a.confidence is not null
+            or a.timeComplexity is not null
+            or a.spaceComplexity is not null
+            or nullif(trim(a.notes), '') is not null
+            or nullif(trim(a.problemUrl), '') is not null
+          )
+        """)
+    boolean existsActivityOnDay(UUID listId, LocalDate day);
 }
@@ -0,0 +1,7 @@
+package com.codeclimb.backend.repository;
+
+import com.codeclimb.backend.entity.LatestAttemptEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LatestAttemptRepository extends JpaRepository<LatestAttemptEntity, LatestAttemptEntity.Key> {
+}
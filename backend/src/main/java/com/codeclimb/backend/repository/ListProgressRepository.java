@@ -0,0 +1,37 @@
+package com.codeclimb.backend.repository;
+
+import com.codeclimb.backend.entity.ListProgressEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ListProgressRepository extends JpaRepository<ListProgressEntity, UUID> {
+    List<ListProgressEntity> findByUserIdAndTemplateVersion(UUID userId, String templateVersion);
+
+    /**
+     * Inserts a placeholder row unless one exists; a concurrent claim waits for the first to commit and inserts
+     * nothing, so racing rebuilds both end in an update instead of a primary-key violation.
+     */
+    @Modifying
+    @Query(value = """
+            insert into list_progress (list_id, user_id, template_version, solved_bitmap, total_solved,
+                                       activity_day_count, activity_run_count, updated_at)
+            values (:listId, :userId, :templateVersion, :solvedBitmap, 0, 0, 0, :updatedAt)
+            on conflict do nothing
+            """, nativeQuery = true)
+    int claim(@Param("listId") UUID listId, @Param("userId") UUID userId,
+              @Param("templateVersion") String templateVersion, @Param("solvedBitmap") byte[] solvedBitmap,
+              @Param("updatedAt") OffsetDateTime updatedAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from ListProgressEntity p where p.listId = :listId")
+    Optional<ListProgressEntity> findForUpdate(UUID listId);
+}
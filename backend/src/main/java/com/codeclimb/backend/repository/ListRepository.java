@@ -2,6 +2,9 @@ package com.codeclimb.backend.repository;
 
 import com.codeclimb.backend.entity.ListEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +13,11 @@ import java.util.UUID;
 public interface ListRepository extends JpaRepository<ListEntity, UUID> {
     List<ListEntity> findByUserIdOrderByUpdatedAtDesc(UUID userId);
     Optional<ListEntity> findByIdAndUserId(UUID id, UUID userId);
+
+    @Query("select l.dataVersion from ListEntity l where l.id = :id and l.userId = :userId")
+    Optional<Long> findDataVersion(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update lists set data_version = data_version + 1 where id = :id", nativeQuery = true)
+    int incrementDataVersion(@Param("id") UUID id);
 }
@@ -2,9 +2,15 @@ package com.codeclimb.backend.repository;
 
 import com.codeclimb.backend.entity.ProblemEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface ProblemRepository extends JpaRepository<ProblemEntity, Long> {
     boolean existsByTemplateVersion(String templateVersion);
-    boolean existsByTemplateVersionAndNeet250Id(String templateVersion, Integer neet250Id);
     long countByTemplateVersion(String templateVersion);
+    List<ProblemEntity> findByTemplateVersionOrderByOrderIndexAsc(String templateVersion);
+
+    @Query("select distinct p.templateVersion from ProblemEntity p")
+    List<String> findTemplateVersions();
 }
@@ -0,0 +1,40 @@
+package com.codeclimb.backend.repository;
+
+import com.codeclimb.backend.entity.UserProgressEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserProgressRepository extends JpaRepository<UserProgressEntity, UUID> {
+    List<UserProgressEntity> findByUserId(UUID userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from UserProgressEntity p where p.userId = :userId and p.templateVersion = :templateVersion")
+    Optional<UserProgressEntity> findForUpdate(UUID userId, String templateVersion);
+
+    /**
+     * Inserts an empty rollup unless one exists. A concurrent claim, or a delete by {@code invalidate}, makes this
+     * wait until the other transaction ends, so every rebuild of one rollup runs after the previous one committed.
+     */
+    @Modifying
+    @Query(value = """
+            insert into user_progress (id, user_id, template_version, solved_bitmap, total_solved, activity_bitmap,
+                                       activity_day_count, activity_run_count, updated_at)
+            values (:id, :userId, :templateVersion, :empty, 0, :empty, 0, 0, :updatedAt)
+            on conflict do nothing
+            """, nativeQuery = true)
+    int claim(@Param("id") UUID id, @Param("userId") UUID userId, @Param("templateVersion") String templateVersion,
+              @Param("empty") byte[] empty, @Param("updatedAt") OffsetDateTime updatedAt);
+
+    @Transactional
+    void deleteByUserIdAndTemplateVersion(UUID userId, String templateVersion);
+}
@@ -2,10 +2,20 @@ package com.codeclimb.backend.repository;
 
 import com.codeclimb.backend.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<UserEntity, UUID> {
     Optional<UserEntity> findByEmail(String email);
+
+    @Query("select u.dataVersion from UserEntity u where u.id = :id")
+    Optional<Long> findDataVersion(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update users set data_version = data_version + 1 where id = :id", nativeQuery = true)
+    int incrementDataVersion(@Param("id") UUID id);
 }
@@ -0,0 +1,174 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.DashboardDtos;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Set of attempt days stored as a bitmap over epoch days, offset by {@code baseDay} so that bit 0 is the earliest
+ * day ever recorded. Day and run counts are kept up to date by {@link #set} so streak statistics need no scan.
+ */
+final class ActivityDays {
+
+    /** Widest span from the first to the last day, about a century; keeps the stored bitmap under 5KB. */
+    static final int MAX_SPAN_DAYS = 36_600;
+
+    private long baseDay;
+    private BitSet bits;
+    private int dayCount;
+    private int runCount;
+
+    private ActivityDays(long baseDay, BitSet bits, int dayCount, int runCount) {
+        this.baseDay = baseDay;
+        this.bits = bits;
+        this.dayCount = dayCount;
+        this.runCount = runCount;
+    }
+
+    static ActivityDays empty() {
+        return new ActivityDays(0, new BitSet(), 0, 0);
+    }
+
+    static ActivityDays of(Integer baseDay, byte[] bitmap, int dayCount, int runCount) {
+        if (baseDay == null || bitmap == null) {
+            return empty();
+        }
+        return new ActivityDays(baseDay, BitSet.valueOf(bitmap), dayCount, runCount);
+    }
+
+    static ActivityDays of(Iterable<LocalDate> days) {
+        ActivityDays activity = empty();
+        for (LocalDate day : days) {
+            activity.set(day, true);
+        }
+        return activity;
+    }
+
+    /** Marks or clears one day and returns whether the set changed. */
+    boolean set(LocalDate day, boolean active) {
+        long epochDay = day.toEpochDay();
+        if (!active && (bits.isEmpty() || epochDay < baseDay)) {
+            return false;
+        }
+        if (active) {
+            checkSpan(Math.min(epochDay, firstDay()), Math.max(epochDay, lastDay()));
+        }
+        if (active && (bits.isEmpty() || epochDay < baseDay)) {
+            rebase(epochDay);
+        }
+        int index = (int) (epochDay - baseDay);
+        if (bits.get(index) == active) {
+            return false;
+        }
+        int neighbours = (index > 0 && bits.get(index - 1) ? 1 : 0) + (bits.get(index + 1) ? 1 : 0);
+        bits.set(index, active);
+        dayCount += active ? 1 : -1;
+        runCount += active ? 1 - neighbours : neighbours - 1;
+        return true;
+    }
+
+    boolean contains(LocalDate day) {
+        long index = day.toEpochDay() - baseDay;
+        return index >= 0 && index <= Integer.MAX_VALUE && bits.get((int) index);
+    }
+
+    /** Merges another day set into this one; counts are recomputed once from the merged bitmap. */
+    ActivityDays or(ActivityDays other) {
+        if (other.bits.isEmpty()) {
+            return this;
+        }
+        checkSpan(Math.min(other.firstDay(), firstDay()), Math.max(other.lastDay(), lastDay()));
+        if (bits.isEmpty() || other.baseDay < baseDay) {
+            rebase(other.baseDay);
+        }
+        int shift = (int) (other.baseDay - baseDay);
+        for (int i = other.bits.nextSetBit(0); i >= 0; i = other.bits.nextSetBit(i + 1)) {
+            bits.set(i + shift);
+        }
+        dayCount = bits.cardinality();
+        runCount = 0;
+        for (int start = bits.nextSetBit(0); start >= 0; start = bits.nextSetBit(bits.nextClearBit(start))) {
+            runCount++;
+        }
+        return this;
+    }
+
+    /** Number of consecutive active days ending at {@code today}. */
+    int currentStreak(LocalDate today) {
+        if (!contains(today)) {
+            return 0;
+        }
+        int index = (int) (today.toEpochDay() - baseDay);
+        return index - bits.previousClearBit(index);
+    }
+
+    double averageStreak() {
+        return runCount == 0 ? 0d : (double) dayCount / runCount;
+    }
+
+    List<LocalDate> days() {
+        List<LocalDate> days = new ArrayList<>(dayCount);
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            days.add(LocalDate.ofEpochDay(baseDay + i));
+        }
+        return days;
+    }
+
+    /** Runs of consecutive days as {@code [start, length]}, oldest first. */
+    List<DashboardDtos.ActivityRange> ranges() {
+        List<DashboardDtos.ActivityRange> ranges = new ArrayList<>(runCount);
+        for (int start = bits.nextSetBit(0); start >= 0; ) {
+            int end = bits.nextClearBit(start);
+            ranges.add(new DashboardDtos.ActivityRange(LocalDate.ofEpochDay(baseDay + start), end - start));
+            start = bits.nextSetBit(end);
+        }
+        return ranges;
+    }
+
+    Integer baseDay() {
+        return bits.isEmpty() ? null : (int) baseDay;
+    }
+
+    byte[] toByteArray() {
+        return bits.toByteArray();
+    }
+
+    int dayCount() {
+        return dayCount;
+    }
+
+    int runCount() {
+        return runCount;
+    }
+
+    private long firstDay() {
+        return bits.isEmpty() ? Long.MAX_VALUE : baseDay + bits.nextSetBit(0);
+    }
+
+    private long lastDay() {
+        return bits.isEmpty() ? Long.MIN_VALUE : baseDay + bits.length() - 1;
+    }
+
+    private static void checkSpan(long firstDay, long lastDay) {
+        if (lastDay - firstDay >= MAX_SPAN_DAYS) {
+            throw new IllegalArgumentException("Activity days must fall within " + MAX_SPAN_DAYS + " days of each other");
+        }
+    }
+
+    private void rebase(long newBaseDay) {
+        if (bits.isEmpty()) {
+            baseDay = newBaseDay;
+            return;
+        }
+        int shift = (int) (baseDay - newBaseDay);
+        BitSet shifted = new BitSet(bits.length() + shift);
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            shifted.set(i + shift);
+        }
+        bits = shifted;
+        baseDay = newBaseDay;
+    }
+}
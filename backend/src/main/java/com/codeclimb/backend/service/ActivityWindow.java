@@ -0,0 +1,69 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.DashboardDtos;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How a dashboard returns its attempt days: the ISO date list, or {@code [start, length]} ranges, optionally
+ * clipped to the {@code from}/{@code to} window the calendar shows. Streaks always cover the full history.
+ */
+public record ActivityWindow(LocalDate from, LocalDate to, boolean ranges) {
+
+    public static ActivityWindow of(LocalDate from, LocalDate to, String format) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        if (!"days".equals(format) && !"ranges".equals(format)) {
+            throw new BadRequestException("activity must be one of: days, ranges");
+        }
+        return new ActivityWindow(from, to, "ranges".equals(format));
+    }
+
+    public DashboardDtos.DashboardResponse apply(DashboardDtos.DashboardResponse response) {
+        if (!ranges && from == null && to == null) {
+            return withActivity(response, response.activityDays(), null);
+        }
+        if (ranges) {
+            return withActivity(response, List.of(), clip(response.activityRanges()));
+        }
+        String fromDay = from == null ? null : from.toString();
+        String toDay = to == null ? null : to.toString();
+        List<String> days = response.activityDays().stream()
+                .filter(day -> (fromDay == null || day.compareTo(fromDay) >= 0) && (toDay == null || day.compareTo(toDay) <= 0))
+                .toList();
+        return withActivity(response, days, null);
+    }
+
+    private List<DashboardDtos.ActivityRange> clip(List<DashboardDtos.ActivityRange> source) {
+        if (from == null && to == null) {
+            return source;
+        }
+        List<DashboardDtos.ActivityRange> clipped = new ArrayList<>();
+        for (DashboardDtos.ActivityRange range : source) {
+            LocalDate start = range.start();
+            LocalDate end = start.plusDays(range.length() - 1L);
+            if (from != null && start.isBefore(from)) {
+                start = from;
+            }
+            if (to != null && end.isAfter(to)) {
+                end = to;
+            }
+            if (!start.isAfter(end)) {
+                clipped.add(new DashboardDtos.ActivityRange(start, (int) (end.toEpochDay() - start.toEpochDay()) + 1));
+            }
+        }
+        return clipped;
+    }
+
+    private static DashboardDtos.DashboardResponse withActivity(DashboardDtos.DashboardResponse response,
+                                                                List<String> activityDays,
+                                                                List<DashboardDtos.ActivityRange> activityRanges) {
+        return new DashboardDtos.DashboardResponse(response.scope(), response.latestListId(), response.listId(),
+                response.lastActivityAt(), response.streakCurrent(), response.streakAverage(),
+                response.farthestCategory(), response.farthestOrderIndex(), response.farthestProblem(),
+                response.solvedCounts(), activityDays, response.rightPanel(), activityRanges);
+    }
+}
@@ -0,0 +1,165 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.AttemptDtos;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes every attempt of a user, oldest change first, as NDJSON or CSV. Rows are read in chunks keyed on
+ * {@code (updated_at, id)}; each chunk is read in one short read-only transaction and written after it ends, so memory
+ * is bounded by the chunk size and a slow download holds neither a connection nor a snapshot open. An attempt
+ * updated while the export runs moves past the cursor and is written again with its new content.
+ */
+@Service
+public class AttemptExportService {
+
+    private static final String EXPORT_SELECT = """
+            select ae.list_id, l.name as list_name, ae.neet250_id, p.title, p.category, p.difficulty, ae.id, ae.solved,
+                   ae.date_solved, ae.time_minutes, ae.attempts, ae.confidence, ae.time_complexity, ae.space_complexity,
+                   ae.notes, ae.problem_url, ae.created_at, ae.updated_at
+            from attempt_entries ae
+            join lists l on l.id = ae.list_id
+            left join problems p on p.template_version = l.template_version and p.neet250_id = ae.neet250_id
+            where ae.user_id = :userId
+            """;
+
+    private static final String EXPORT_ORDER = "order by ae.updated_at, ae.id\nlimit :limit";
+
+    private static final String FIRST_CHUNK_SQL = EXPORT_SELECT + EXPORT_ORDER;
+
+    private static final String NEXT_CHUNK_SQL = EXPORT_SELECT + """
+            and ae.updated_at >= :afterUpdatedAt and (ae.updated_at > :afterUpdatedAt or ae.id > :afterId)
+            """ + EXPORT_ORDER;
+
+    private static final String[] CSV_HEADER = {
+            "list_id", "list_name", "neet250_id", "title", "category", "difficulty", "attempt_id", "solved",
+            "date_solved", "time_minutes", "attempts", "confidence", "time_complexity", "space_complexity", "notes",
+            "problem_url", "created_at", "updated_at"
+    };
+
+    private final JsonStreamer jsonStreamer;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public AttemptExportService(JsonStreamer jsonStreamer, ObjectMapper objectMapper,
+                                @Value("${app.export.chunk-size:5000}") int chunkSize) {
+        this.jsonStreamer = jsonStreamer;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public void write(UUID userId, ExportFormat format, OutputStream out) throws IOException {
+        try (RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            List<AttemptDtos.AttemptExportRow> rows;
+            AttemptDtos.AttemptExportRow last = null;
+            do {
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("limit", chunkSize);
+                String sql = FIRST_CHUNK_SQL;
+                if (last != null) {
+                    params.addValue("afterUpdatedAt", last.updatedAt()).addValue("afterId", last.attemptId());
+                    sql = NEXT_CHUNK_SQL;
+                }
+                rows = jsonStreamer.query(sql, params, AttemptExportService::toRow);
+                for (AttemptDtos.AttemptExportRow row : rows) {
+                    writer.write(row);
+                    last = row;
+                }
+            } while (rows.size() == chunkSize);
+        }
+    }
+
+    private static AttemptDtos.AttemptExportRow toRow(ResultSet rs, int rowNum) throws SQLException {
+        return new AttemptDtos.AttemptExportRow(rs.getObject("list_id", UUID.class), rs.getString("list_name"),
+                rs.getInt("neet250_id"), rs.getString("title"), rs.getString("category"), rs.getString("difficulty"),
+                rs.getObject("id", UUID.class), rs.getObject("solved", Boolean.class),
+                rs.getObject("date_solved", LocalDate.class), rs.getObject("time_minutes", Integer.class),
+                rs.getObject("attempts", Integer.class), rs.getString("confidence"), rs.getString("time_complexity"),
+                rs.getString("space_complexity"), rs.getString("notes"), rs.getString("problem_url"),
+                rs.getObject("created_at", OffsetDateTime.class), rs.getObject("updated_at", OffsetDateTime.class));
+    }
+
+    private interface RowWriter extends AutoCloseable {
+        void write(AttemptDtos.AttemptExportRow row) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator json;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.json = objectMapper.getFactory().createGenerator(out);
+        }
+
+        @Override
+        public void write(AttemptDtos.AttemptExportRow row) throws IOException {
+            json.writeObject(row);
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            json.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer out;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.out = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            line((Object[]) CSV_HEADER);
+        }
+
+        @Override
+        public void write(AttemptDtos.AttemptExportRow row) throws IOException {
+            line(row.listId(), row.listName(), row.neet250Id(), row.title(), row.category(), row.difficulty(),
+                    row.attemptId(), row.solved(), row.dateSolved(), row.timeMinutes(), row.attempts(),
+                    row.confidence(), row.timeComplexity(), row.spaceComplexity(), row.notes(), row.problemUrl(),
+                    row.createdAt(), row.updatedAt());
+        }
+
+        /** RFC 4180: fields holding a comma, quote or line break are quoted, with quotes doubled. */
+        private void line(Object... fields) throws IOException {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String field = fields[i] == null ? "" : fields[i].toString();
+                if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                    out.write('"');
+                    out.write(field.replace("\"", "\"\""));
+                    out.write('"');
+                } else {
+                    out.write(field);
+                }
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
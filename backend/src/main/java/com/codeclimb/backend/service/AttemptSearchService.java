@@ -0,0 +1,79 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.AttemptDtos;
+import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.repository.ListRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked full-text search over the notes and complexities of a list's attempts, using the generated
+ * {@code search_vector} column and its GIN index (PostgreSQL only). Snippets are plain text with matches wrapped in
+ * {@code **}, and are built for the returned page only.
+ */
+@Service
+public class AttemptSearchService {
+
+    static final int MAX_LIMIT = 50;
+    static final int MAX_OFFSET = 1000;
+    static final int MAX_QUERY_LENGTH = 200;
+
+    private static final String SEARCH_SQL = """
+            select hit.id, hit.neet250_id, hit.rank, hit.time_complexity, hit.space_complexity, hit.updated_at,
+                   ts_headline('english', coalesce(hit.notes, ''), hit.query, 'StartSel=**, StopSel=**, MaxFragments=2, MinWords=5, MaxWords=20') as snippet
+            from (
+                select ae.id, ae.neet250_id, ae.notes, ae.time_complexity, ae.space_complexity, ae.updated_at,
+                       ts_rank_cd(ae.search_vector, query) as rank, query
+                from attempt_entries ae, websearch_to_tsquery('english', :q) query
+                where ae.user_id = :userId and ae.list_id = :listId and ae.search_vector @@ query
+                order by rank desc, ae.updated_at desc, ae.id
+                limit :limit offset :offset
+            ) hit
+            order by hit.rank desc, hit.updated_at desc, hit.id
+            """;
+
+    private final ListRepository listRepository;
+    private final ProblemCatalog problemCatalog;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AttemptSearchService(ListRepository listRepository, ProblemCatalog problemCatalog,
+                                NamedParameterJdbcTemplate jdbcTemplate) {
+        this.listRepository = listRepository;
+        this.problemCatalog = problemCatalog;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<AttemptDtos.AttemptSearchHit> search(UUID userId, UUID listId, String q, int limit, int offset) {
+        String query = q == null ? "" : q.trim();
+        if (query.isEmpty() || query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("q must be between 1 and " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new BadRequestException("offset must be between 0 and " + MAX_OFFSET);
+        }
+        ListEntity list = listRepository.findByIdAndUserId(listId, userId).orElseThrow(() -> new BadRequestException("List not found"));
+        ProblemCatalog.Template template = problemCatalog.template(list.getTemplateVersion());
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("q", query)
+                .addValue("userId", userId)
+                .addValue("listId", listId)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        return jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> {
+            int neetId = rs.getInt("neet250_id");
+            ProblemCatalog.Problem problem = template.byNeetId(neetId);
+            return new AttemptDtos.AttemptSearchHit(rs.getObject("id", UUID.class), neetId,
+                    problem == null ? null : problem.title(), rs.getDouble("rank"), rs.getString("snippet"),
+                    rs.getString("time_complexity"), rs.getString("space_complexity"),
+                    rs.getObject("updated_at", OffsetDateTime.class));
+        });
+    }
+}
@@ -2,60 +2,240 @@ package com.codeclimb.backend.service;
 
 import com.codeclimb.backend.dto.AttemptDtos;
 import com.codeclimb.backend.entity.AttemptEntryEntity;
+import com.codeclimb.backend.entity.LatestAttemptEntity;
 import com.codeclimb.backend.entity.ListEntity;
 import com.codeclimb.backend.repository.AttemptEntryRepository;
+import com.codeclimb.backend.repository.LatestAttemptRepository;
 import com.codeclimb.backend.repository.ListRepository;
-import com.codeclimb.backend.repository.ProblemRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 public class AttemptService {
 
+    private static final String HISTORY_SELECT = """
+            select id, list_id, neet250_id, solved, date_solved, time_minutes, attempts, confidence, time_complexity,
+                   space_complexity, notes, problem_url, updated_at
+            from attempt_entries
+            where user_id = :userId and list_id = :listId and neet250_id = :neetId
+            """;
+
+    private static final String HISTORY_ORDER = "order by updated_at desc, id desc\n";
+
+    private static final String HISTORY_FIRST_PAGE_SQL = HISTORY_SELECT + HISTORY_ORDER + "limit :limit";
+
+    /** The {@code updated_at <=} bound is what the index range scan starts from; the id only breaks ties. */
+    private static final String HISTORY_NEXT_PAGE_SQL = HISTORY_SELECT + """
+            and updated_at <= :cursorUpdatedAt and (updated_at < :cursorUpdatedAt or id < :cursorId)
+            """ + HISTORY_ORDER + "limit :limit";
+
+    private static final String HISTORY_COUNT_SQL = """
+            select count(*)
+            from attempt_entries
+            where user_id = :userId and list_id = :listId and neet250_id = :neetId
+            """;
+
+    private static final String INSERT_SQL = """
+            insert into attempt_entries (id, user_id, list_id, neet250_id, solved, date_solved, time_minutes, attempts,
+                                         confidence, time_complexity, space_complexity, notes, problem_url, draft_id,
+                                         created_at, updated_at)
+            values (:id, :userId, :listId, :neet250Id, :solved, :dateSolved, :timeMinutes, :attempts, :confidence,
+                    :timeComplexity, :spaceComplexity, :notes, :problemUrl, :draftId, :createdAt, :updatedAt)
+            """;
+
+    /** Inserts nothing unless the list belongs to the user and the problem is in the list's template. */
+    private static final String GUARDED_INSERT_SQL = """
+            insert into attempt_entries (id, user_id, list_id, neet250_id, solved, date_solved, time_minutes, attempts,
+                                         confidence, time_complexity, space_complexity, notes, problem_url, draft_id,
+                                         created_at, updated_at)
+            select :id, :userId, :listId, :neet250Id, :solved, :dateSolved, :timeMinutes, :attempts, :confidence,
+                   :timeComplexity, :spaceComplexity, :notes, :problemUrl, :draftId, :createdAt, :updatedAt
+            from lists l
+            join problems p on p.template_version = l.template_version and p.neet250_id = :neet250Id
+            where l.id = :listId and l.user_id = :userId
+            """;
+
+    private static final String CLAIM_DRAFT_SQL = GUARDED_INSERT_SQL + "on conflict do nothing";
+
+    private static final String UPDATE_LATEST_SQL = """
+            update latest_attempts
+            set attempt_id = :attemptId, version = :version, solved = :solved, confidence = :confidence
+            where list_id = :listId and neet250_id = :neet250Id
+            """;
+
+    private static final String INSERT_LATEST_SQL = """
+            insert into latest_attempts (list_id, neet250_id, attempt_id, version, solved, confidence)
+            values (:listId, :neet250Id, :attemptId, :version, :solved, :confidence)
+            on conflict do nothing
+            """;
+
+    static final int MAX_DRAFT_ID_LENGTH = 64;
+
+    static final int MAX_BATCH_SIZE = 500;
+
+    static final int MAX_HISTORY_LIMIT = 100;
+
+    static final LocalDate EARLIEST_DATE_SOLVED = LocalDate.of(2000, 1, 1);
+
     private final AttemptEntryRepository attemptEntryRepository;
+    private final LatestAttemptRepository latestAttemptRepository;
     private final ListRepository listRepository;
-    private final ProblemRepository problemRepository;
+    private final ListProgressService listProgressService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonStreamer jsonStreamer;
+    private final ProblemCatalog problemCatalog;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final IdGenerator idGenerator;
 
     public AttemptService(AttemptEntryRepository attemptEntryRepository,
+                          LatestAttemptRepository latestAttemptRepository,
                           ListRepository listRepository,
-                          ProblemRepository problemRepository) {
+                          ListProgressService listProgressService,
+                          ApplicationEventPublisher eventPublisher,
+                          JsonStreamer jsonStreamer,
+                          ProblemCatalog problemCatalog,
+                          NamedParameterJdbcTemplate jdbcTemplate,
+                          IdGenerator idGenerator) {
         this.attemptEntryRepository = attemptEntryRepository;
+        this.latestAttemptRepository = latestAttemptRepository;
         this.listRepository = listRepository;
-        this.problemRepository = problemRepository;
+        this.listProgressService = listProgressService;
+        this.eventPublisher = eventPublisher;
+        this.jsonStreamer = jsonStreamer;
+        this.problemCatalog = problemCatalog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = idGenerator;
     }
 
+    @Transactional
     public AttemptDtos.AttemptResponse create(UUID userId, UUID listId, Integer neetId, AttemptDtos.UpsertAttemptRequest request) {
+        return createDraft(userId, listId, neetId, null, request);
+    }
+
+    /**
+     * Creates many attempts in one transaction. Ownership is checked once and problem ids against the in-memory
+     * catalog; invalid items are reported in their result and skipped, and the rest are inserted with one JDBC batch.
+     * The list summary is rebuilt and the data version bumped once for the whole batch, and each problem's latest
+     * pointer moves to its last item.
+     */
+    @Transactional
+    public AttemptDtos.BatchAttemptResponse createAll(UUID userId, UUID listId, AttemptDtos.BatchAttemptRequest request) {
+        List<AttemptDtos.BatchAttemptItem> items = request == null || request.items() == null ? List.of() : request.items();
+        if (items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("items must contain between 1 and " + MAX_BATCH_SIZE + " attempts");
+        }
         ListEntity list = listRepository.findByIdAndUserId(listId, userId).orElseThrow(() -> new BadRequestException("List not found"));
-        if (!problemRepository.existsByTemplateVersionAndNeet250Id(list.getTemplateVersion(), neetId)) {
-            throw new BadRequestException("Problem not found");
+        ProblemCatalog.Template template = problemCatalog.template(list.getTemplateVersion());
+        OffsetDateTime now = now();
+        AttemptEntryEntity[] entries = new AttemptEntryEntity[items.size()];
+        String[] errors = new String[items.size()];
+        List<SqlParameterSource> rows = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            AttemptDtos.BatchAttemptItem item = items.get(i);
+            try {
+                if (item == null || item.neet250Id() == null || template.byNeetId(item.neet250Id()) == null) {
+                    throw new BadRequestException("Problem not found");
+                }
+                if (item.attempt() == null) {
+                    throw new BadRequestException("Attempt payload must include at least one meaningful field");
+                }
+                validatePayload(item.attempt());
+                entries[i] = newEntry(userId, listId, item.neet250Id(), item.attempt(), now);
+                rows.add(toInsertRow(entries[i]));
+            } catch (BadRequestException error) {
+                errors[i] = error.getMessage();
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows.toArray(SqlParameterSource[]::new));
+
+        if (!rows.isEmpty()) {
+            Map<Integer, AttemptEntryEntity> lastByProblem = new LinkedHashMap<>();
+            for (AttemptEntryEntity entry : entries) {
+                if (entry != null) {
+                    lastByProblem.put(entry.getNeet250Id(), entry);
+                }
+            }
+            listProgressService.recordBulkChange(list);
+            eventPublisher.publishEvent(new ProgressChangedEvent(userId, listId, Set.copyOf(lastByProblem.keySet())));
+            long version = listRepository.findDataVersion(listId, userId).orElse(0L);
+            markAllLatest(lastByProblem.values(), version);
+        }
+
+        List<AttemptDtos.BatchAttemptResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Integer neetId = items.get(i) == null ? null : items.get(i).neet250Id();
+            results.add(new AttemptDtos.BatchAttemptResult(i, neetId, entries[i] == null ? null : toDto(entries[i]), errors[i]));
+        }
+        return new AttemptDtos.BatchAttemptResponse(rows.size(), items.size() - rows.size(), results);
+    }
+
+    /**
+     * Create, optionally keyed by a client draft id. The insert itself checks list ownership and that the problem is
+     * in the list's template, so a create is one statement; which check failed is only looked up when nothing was
+     * inserted. With a draft id the first save claims it with {@code ON CONFLICT DO NOTHING}, so concurrent first
+     * saves wait on the unique index instead of inserting twice. Later saves update that row, and a retry with
+     * unchanged content returns the stored attempt without writing.
+     */
+    @Transactional
+    public AttemptDtos.AttemptResponse createDraft(UUID userId, UUID listId, Integer neetId, String draftId,
+                                                   AttemptDtos.UpsertAttemptRequest request) {
+        if (draftId != null && (draftId.isBlank() || draftId.length() > MAX_DRAFT_ID_LENGTH)) {
+            throw new BadRequestException("Idempotency-Key must be between 1 and " + MAX_DRAFT_ID_LENGTH + " characters");
         }
         validatePayload(request);
-        AttemptEntryEntity entry = new AttemptEntryEntity();
-        entry.setId(UUID.randomUUID());
-        entry.setUserId(userId);
-        entry.setListId(listId);
-        entry.setNeet250Id(neetId);
-        entry.setSolved(request.solved());
-        entry.setDateSolved(request.dateSolved());
-        entry.setTimeMinutes(request.timeMinutes());
-        entry.setAttempts(request.attempts());
-        entry.setConfidence(parseConfidence(request.confidence()));
-        entry.setTimeComplexity(normalizeNullable(request.timeComplexity()));
-        entry.setSpaceComplexity(normalizeNullable(request.spaceComplexity()));
-        entry.setNotes(request.notes());
-        entry.setProblemUrl(request.problemUrl());
-        entry.setCreatedAt(OffsetDateTime.now());
-        entry.setUpdatedAt(OffsetDateTime.now());
-        return toDto(attemptEntryRepository.save(entry));
+        AttemptEntryEntity entry = newEntry(userId, listId, neetId, request, now());
+        entry.setDraftId(draftId);
+        if (jdbcTemplate.update(draftId == null ? GUARDED_INSERT_SQL : CLAIM_DRAFT_SQL, toInsertRow(entry)) == 1) {
+            listProgressService.recordAttemptChange(userId, listId, neetId, entry.getUpdatedAt(), entry.getDateSolved());
+            eventPublisher.publishEvent(ProgressChangedEvent.problem(userId, listId, neetId));
+            markLatest(entry);
+            return toDto(entry);
+        }
+        AttemptEntryEntity saved = draftId == null ? null
+                : attemptEntryRepository.findByUserIdAndDraftId(userId, draftId).orElse(null);
+        if (saved == null) {
+            throw listRepository.findByIdAndUserId(listId, userId).isPresent()
+                    ? new BadRequestException("Problem not found")
+                    : new BadRequestException("List not found");
+        }
+        if (!saved.getListId().equals(listId) || !saved.getNeet250Id().equals(neetId)) {
+            throw new BadRequestException("Idempotency-Key belongs to another problem");
+        }
+        if (sameContent(saved, entry)) {
+            return toDto(saved);
+        }
+        return update(userId, saved.getId(), request);
     }
 
+    @Transactional
     public AttemptDtos.AttemptResponse update(UUID userId, UUID attemptId, AttemptDtos.UpsertAttemptRequest request) {
         AttemptEntryEntity entry = attemptEntryRepository.findByIdAndUserId(attemptId, userId)
                 .orElseThrow(() -> new BadRequestException("Attempt not found"));
         validatePayload(request);
+        LocalDate previousDateSolved = entry.getDateSolved();
         entry.setSolved(request.solved());
         entry.setDateSolved(request.dateSolved());
         entry.setTimeMinutes(request.timeMinutes());
@@ -65,25 +245,218 @@ public class AttemptService {
         entry.setSpaceComplexity(normalizeNullable(request.spaceComplexity()));
         entry.setNotes(request.notes());
         entry.setProblemUrl(request.problemUrl());
-        entry.setUpdatedAt(OffsetDateTime.now());
-        return toDto(attemptEntryRepository.save(entry));
+        entry.setUpdatedAt(now());
+        AttemptEntryEntity saved = attemptEntryRepository.saveAndFlush(entry);
+        listProgressService.recordAttemptChange(userId, saved.getListId(), saved.getNeet250Id(), saved.getUpdatedAt(),
+                previousDateSolved, saved.getDateSolved());
+        eventPublisher.publishEvent(ProgressChangedEvent.problem(userId, saved.getListId(), saved.getNeet250Id()));
+        markLatest(saved);
+        return toDto(saved);
     }
 
 
+    @Transactional
     public AttemptDtos.AttemptResponse patch(UUID userId, UUID attemptId, AttemptDtos.UpsertAttemptRequest request) {
         return update(userId, attemptId, request);
     }
 
+    @Transactional
     public void delete(UUID userId, UUID attemptId) {
         AttemptEntryEntity entry = attemptEntryRepository.findByIdAndUserId(attemptId, userId)
                 .orElseThrow(() -> new BadRequestException("Attempt not found"));
+        LatestAttemptEntity latest = unmarkLatest(entry);
         attemptEntryRepository.delete(entry);
+        listProgressService.recordAttemptChange(userId, entry.getListId(), entry.getNeet250Id(), null, entry.getDateSolved());
+        eventPublisher.publishEvent(ProgressChangedEvent.problem(userId, entry.getListId(), entry.getNeet250Id()));
+        if (latest != null) {
+            latest.setVersion(listVersion(entry));
+        }
     }
 
-    public List<AttemptDtos.AttemptResponse> history(UUID userId, UUID listId, Integer neetId) {
+    /**
+     * Writes the problem's attempts, newest first, as a JSON array, reading them in chunks along the same
+     * (updated_at, id) keyset as the pages. An attempt edited mid-write moves ahead of the keyset and is not written.
+     */
+    public void writeHistory(UUID userId, UUID listId, Integer neetId, StreamBody body) throws IOException {
         listRepository.findByIdAndUserId(listId, userId).orElseThrow(() -> new BadRequestException("List not found"));
-        return attemptEntryRepository.findByUserIdAndListIdAndNeet250IdOrderByUpdatedAtDesc(userId, listId, neetId)
-                .stream().map(this::toDto).toList();
+        Function<AttemptDtos.AttemptResponse, JsonStreamer.Chunk> chunkAfter = last -> {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("userId", userId)
+                    .addValue("listId", listId)
+                    .addValue("neetId", neetId);
+            if (last == null) {
+                return new JsonStreamer.Chunk(HISTORY_FIRST_PAGE_SQL, params);
+            }
+            params.addValue("cursorUpdatedAt", last.updatedAt()).addValue("cursorId", last.id());
+            return new JsonStreamer.Chunk(HISTORY_NEXT_PAGE_SQL, params);
+        };
+        try (JsonGenerator json = jsonStreamer.startArray(body)) {
+            jsonStreamer.forEachChunk(Integer.MAX_VALUE, chunkAfter, AttemptService::toHistoryRow, json::writeObject);
+            json.writeEndArray();
+        }
+    }
+
+    /**
+     * Reads up to {@code limit} attempts older than {@code cursor}, newest first, in (updated_at, id) order. One extra
+     * row is read to tell whether another page follows. The count is a separate index scan, run only when asked for.
+     */
+    @Transactional(readOnly = true)
+    public HistoryPage historyPage(UUID userId, UUID listId, Integer neetId, int limit, String cursor, boolean count) {
+        if (limit < 1 || limit > MAX_HISTORY_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_HISTORY_LIMIT);
+        }
+        listRepository.findByIdAndUserId(listId, userId).orElseThrow(() -> new BadRequestException("List not found"));
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("listId", listId)
+                .addValue("neetId", neetId)
+                .addValue("limit", limit + 1);
+        String sql = HISTORY_FIRST_PAGE_SQL;
+        if (cursor != null && !cursor.isBlank()) {
+            HistoryCursor position = HistoryCursor.decode(cursor);
+            params.addValue("cursorUpdatedAt", position.updatedAt()).addValue("cursorId", position.id());
+            sql = HISTORY_NEXT_PAGE_SQL;
+        }
+        List<AttemptDtos.AttemptResponse> rows = jdbcTemplate.query(sql, params, AttemptService::toHistoryRow);
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            AttemptDtos.AttemptResponse last = rows.get(limit - 1);
+            nextCursor = new HistoryCursor(last.updatedAt(), last.id()).encode();
+        }
+        Long total = count ? jdbcTemplate.queryForObject(HISTORY_COUNT_SQL, params, Long.class) : null;
+        return new HistoryPage(rows, nextCursor, total);
+    }
+
+    /**
+     * Runs after {@code recordAttemptChange}, whose list row lock serializes the first insert per problem, and after
+     * the event has bumped the list's data version, which becomes the row's {@code since} cursor position.
+     */
+    private void markLatest(AttemptEntryEntity entry) {
+        latestAttemptRepository.save(latest(entry, listVersion(entry)));
+    }
+
+    /**
+     * Moves the batch's latest pointers with two JDBC batches instead of a merge per row: update the existing rows,
+     * then insert the ones no row matched. The list progress row lock taken by {@code recordBulkChange} keeps a
+     * concurrent writer from inserting the same pointers in between.
+     */
+    private void markAllLatest(Collection<AttemptEntryEntity> entries, long version) {
+        SqlParameterSource[] rows = entries.stream().map(entry -> toLatestRow(entry, version)).toArray(SqlParameterSource[]::new);
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_LATEST_SQL, rows);
+        List<SqlParameterSource> missing = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(rows[i]);
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LATEST_SQL, missing.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    private static SqlParameterSource toLatestRow(AttemptEntryEntity entry, long version) {
+        return new MapSqlParameterSource()
+                .addValue("listId", entry.getListId())
+                .addValue("neet250Id", entry.getNeet250Id())
+                .addValue("attemptId", entry.getId())
+                .addValue("version", version)
+                .addValue("solved", entry.getSolved(), Types.BOOLEAN)
+                .addValue("confidence", entry.getConfidence() == null ? null : entry.getConfidence().name(), Types.VARCHAR);
+    }
+
+    private static LatestAttemptEntity latest(AttemptEntryEntity entry, long version) {
+        LatestAttemptEntity latest = new LatestAttemptEntity();
+        latest.setListId(entry.getListId());
+        latest.setNeet250Id(entry.getNeet250Id());
+        pointAt(latest, entry);
+        latest.setVersion(version);
+        return latest;
+    }
+
+    /**
+     * Falls back to the next most recent row before {@code entry} is deleted, or leaves a tombstone when none is
+     * left. Returns the changed row so its version can be set once the list version has been bumped.
+     */
+    private LatestAttemptEntity unmarkLatest(AttemptEntryEntity entry) {
+        return latestAttemptRepository.findById(new LatestAttemptEntity.Key(entry.getListId(), entry.getNeet250Id()))
+                .filter(latest -> entry.getId().equals(latest.getAttemptId()))
+                .map(latest -> {
+                    pointAt(latest, attemptEntryRepository
+                            .findFirstByListIdAndNeet250IdAndIdNotOrderByUpdatedAtDesc(entry.getListId(), entry.getNeet250Id(), entry.getId())
+                            .orElse(null));
+                    return latest;
+                })
+                .orElse(null);
+    }
+
+    /** Copies the filterable columns along with the pointer, so listings can filter without joining attempts. */
+    private static void pointAt(LatestAttemptEntity latest, AttemptEntryEntity entry) {
+        latest.setAttemptId(entry == null ? null : entry.getId());
+        latest.setSolved(entry == null ? null : entry.getSolved());
+        latest.setConfidence(entry == null ? null : entry.getConfidence());
+    }
+
+    private long listVersion(AttemptEntryEntity entry) {
+        return listRepository.findDataVersion(entry.getListId(), entry.getUserId()).orElse(0L);
+    }
+
+    private AttemptEntryEntity newEntry(UUID userId, UUID listId, Integer neetId, AttemptDtos.UpsertAttemptRequest request,
+                                        OffsetDateTime now) {
+        AttemptEntryEntity entry = new AttemptEntryEntity();
+        entry.setId(idGenerator.next());
+        entry.setUserId(userId);
+        entry.setListId(listId);
+        entry.setNeet250Id(neetId);
+        entry.setSolved(request.solved());
+        entry.setDateSolved(request.dateSolved());
+        entry.setTimeMinutes(request.timeMinutes());
+        entry.setAttempts(request.attempts());
+        entry.setConfidence(parseConfidence(request.confidence()));
+        entry.setTimeComplexity(normalizeNullable(request.timeComplexity()));
+        entry.setSpaceComplexity(normalizeNullable(request.spaceComplexity()));
+        entry.setNotes(request.notes());
+        entry.setProblemUrl(request.problemUrl());
+        entry.setCreatedAt(now);
+        entry.setUpdatedAt(now);
+        return entry;
+    }
+
+    /** Columns keep microseconds, so a response matches the row when it is read back and replayed. */
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static SqlParameterSource toInsertRow(AttemptEntryEntity entry) {
+        return new MapSqlParameterSource()
+                .addValue("id", entry.getId())
+                .addValue("userId", entry.getUserId())
+                .addValue("listId", entry.getListId())
+                .addValue("neet250Id", entry.getNeet250Id())
+                .addValue("solved", entry.getSolved(), Types.BOOLEAN)
+                .addValue("dateSolved", entry.getDateSolved(), Types.DATE)
+                .addValue("timeMinutes", entry.getTimeMinutes(), Types.INTEGER)
+                .addValue("attempts", entry.getAttempts(), Types.INTEGER)
+                .addValue("confidence", entry.getConfidence() == null ? null : entry.getConfidence().name(), Types.VARCHAR)
+                .addValue("timeComplexity", entry.getTimeComplexity(), Types.VARCHAR)
+                .addValue("spaceComplexity", entry.getSpaceComplexity(), Types.VARCHAR)
+                .addValue("notes", entry.getNotes(), Types.VARCHAR)
+                .addValue("problemUrl", entry.getProblemUrl(), Types.VARCHAR)
+                .addValue("draftId", entry.getDraftId(), Types.VARCHAR)
+                .addValue("createdAt", entry.getCreatedAt())
+                .addValue("updatedAt", entry.getUpdatedAt());
+    }
+
+    private static boolean sameContent(AttemptEntryEntity saved, AttemptEntryEntity entry) {
+        return Objects.equals(saved.getSolved(), entry.getSolved())
+                && Objects.equals(saved.getDateSolved(), entry.getDateSolved())
+                && Objects.equals(saved.getTimeMinutes(), entry.getTimeMinutes())
+                && Objects.equals(saved.getAttempts(), entry.getAttempts())
+                && saved.getConfidence() == entry.getConfidence()
+                && Objects.equals(saved.getTimeComplexity(), entry.getTimeComplexity())
+                && Objects.equals(saved.getSpaceComplexity(), entry.getSpaceComplexity())
+                && Objects.equals(saved.getNotes(), entry.getNotes())
+                && Objects.equals(saved.getProblemUrl(), entry.getProblemUrl());
     }
 
     private void validatePayload(AttemptDtos.UpsertAttemptRequest request) {
@@ -91,6 +464,11 @@ public class AttemptService {
             throw new BadRequestException("Attempts must be >= 1");
         }
         parseConfidence(request.confidence());
+        LocalDate dateSolved = request.dateSolved();
+        if (dateSolved != null && (dateSolved.isBefore(EARLIEST_DATE_SOLVED)
+                || dateSolved.isAfter(LocalDate.now(ZoneOffset.UTC).plusDays(1)))) {
+            throw new BadRequestException("dateSolved must be between " + EARLIEST_DATE_SOLVED + " and tomorrow");
+        }
         if (isEmptyAttemptPayload(request)) {
             throw new BadRequestException("Attempt payload must include at least one meaningful field");
         }
@@ -127,6 +505,14 @@ public class AttemptService {
                 && (request.problemUrl() == null || request.problemUrl().isBlank());
     }
 
+    private static AttemptDtos.AttemptResponse toHistoryRow(ResultSet rs, int rowNum) throws SQLException {
+        return new AttemptDtos.AttemptResponse(rs.getObject("id", UUID.class), rs.getObject("list_id", UUID.class),
+                rs.getInt("neet250_id"), rs.getObject("solved", Boolean.class), rs.getObject("date_solved", LocalDate.class),
+                rs.getObject("time_minutes", Integer.class), rs.getObject("attempts", Integer.class), rs.getString("confidence"),
+                rs.getString("time_complexity"), rs.getString("space_complexity"), rs.getString("notes"),
+                rs.getString("problem_url"), rs.getObject("updated_at", OffsetDateTime.class));
+    }
+
     private AttemptDtos.AttemptResponse toDto(AttemptEntryEntity entity) {
         return new AttemptDtos.AttemptResponse(entity.getId(), entity.getListId(), entity.getNeet250Id(), entity.getSolved(),
                 entity.getDateSolved(), entity.getTimeMinutes(), entity.getAttempts(),
@@ -22,12 +22,17 @@ public class AuthService {
     private final ListRepository listRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final ListProgressService listProgressService;
+    private final IdGenerator idGenerator;
 
-    public AuthService(UserRepository userRepository, ListRepository listRepository, PasswordEncoder passwordEncoder, JwtService jwtService) {
+    public AuthService(UserRepository userRepository, ListRepository listRepository, PasswordEncoder passwordEncoder,
+                       JwtService jwtService, ListProgressService listProgressService, IdGenerator idGenerator) {
         this.userRepository = userRepository;
         this.listRepository = listRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.listProgressService = listProgressService;
+        this.idGenerator = idGenerator;
     }
 
     public AuthDtos.AuthResponse signup(AuthDtos.SignupRequest request) {
@@ -46,14 +51,14 @@ public class AuthService {
 
     private void createDefaultList(UUID userId) {
         ListEntity list = new ListEntity();
-        list.setId(UUID.randomUUID());
+        list.setId(idGenerator.next());
         list.setUserId(userId);
         list.setName(DEFAULT_LIST_NAME);
         list.setTemplateVersion(DEFAULT_TEMPLATE_VERSION);
         list.setDeprecated(false);
         list.setCreatedAt(OffsetDateTime.now());
         list.setUpdatedAt(OffsetDateTime.now());
-        listRepository.save(list);
+        listProgressService.initialize(listRepository.save(list));
     }
 
     public AuthDtos.AuthResponse login(AuthDtos.LoginRequest request) {
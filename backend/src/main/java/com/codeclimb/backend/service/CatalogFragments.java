@@ -0,0 +1,58 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.ProblemDtos;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized and gzipped problem lists per template. Snapshots are immutable, so each is encoded once and the bytes
+ * are served as-is; entries are keyed by snapshot and drop out when {@link ProblemCatalog#refresh()} replaces it.
+ */
+@Service
+public class CatalogFragments {
+
+    private final ProblemCatalog problemCatalog;
+    private final ObjectMapper objectMapper;
+    private final Map<ProblemCatalog.Template, Fragment> fragments = new WeakHashMap<>();
+
+    public CatalogFragments(ProblemCatalog problemCatalog, ObjectMapper objectMapper) {
+        this.problemCatalog = problemCatalog;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<Fragment> problems(String templateVersion) {
+        return problemCatalog.loaded(templateVersion).map(template -> {
+            synchronized (fragments) {
+                return fragments.computeIfAbsent(template, this::encode);
+            }
+        });
+    }
+
+    private Fragment encode(ProblemCatalog.Template template) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(template.problems().stream()
+                    .map(problem -> new ProblemDtos.CatalogProblem(problem.neet250Id(), problem.orderIndex(),
+                            problem.title(), problem.leetcodeSlug(), problem.category(), problem.difficulty()))
+                    .toList());
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+                out.write(json);
+            }
+            return new Fragment(json, gzip.toByteArray(),
+                    template.templateVersion() + "-" + DigestUtils.md5DigestAsHex(json));
+        } catch (IOException error) {
+            throw new UncheckedIOException(error);
+        }
+    }
+
+    public record Fragment(byte[] json, byte[] gzip, String etag) {}
+}
@@ -0,0 +1,110 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.DashboardDtos;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded cache of dashboard responses keyed by (user, scope, list). Entries older than {@code fresh-for}
+ * are still served while a background reload recomputes them; writes evict the affected keys after commit.
+ */
+@Component
+public class DashboardCache {
+
+    private final LoadingCache<Key, DashboardDtos.DashboardResponse> cache;
+    private final Counter invalidations;
+
+    public DashboardCache(DashboardService dashboardService,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.dashboard.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${app.dashboard.cache.fresh-for:30s}") Duration freshFor,
+                          @Value("${app.dashboard.cache.expire-after:10m}") Duration expireAfter) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(freshFor)
+                .expireAfterWrite(expireAfter)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public DashboardDtos.DashboardResponse load(Key key) {
+                        return dashboardService.getDashboard(key.userId(), key.scope().value, key.listId());
+                    }
+
+                    @Override
+                    public Map<Key, DashboardDtos.DashboardResponse> loadAll(Set<? extends Key> keys) {
+                        Map<Key, DashboardDtos.DashboardResponse> loaded = new HashMap<>();
+                        for (Map.Entry<UUID, List<Key>> byUser : keys.stream()
+                                .collect(Collectors.groupingBy(Key::userId, Collectors.<Key>toList())).entrySet()) {
+                            List<DashboardDtos.DashboardResponse> responses = dashboardService.getDashboards(byUser.getKey(),
+                                    byUser.getValue().stream().map(Key::toRequest).toList());
+                            for (int i = 0; i < responses.size(); i++) {
+                                loaded.put(byUser.getValue().get(i), responses.get(i));
+                            }
+                        }
+                        return loaded;
+                    }
+                });
+        this.invalidations = Counter.builder("cache.invalidations")
+                .tag("cache", "dashboard")
+                .description("Dashboard entries evicted by attempt and list writes")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "dashboard");
+    }
+
+    public DashboardDtos.DashboardResponse get(UUID userId, String scopeInput, UUID listId) {
+        return cache.get(key(userId, scopeInput, listId));
+    }
+
+    /** Serves cached scopes directly and builds all missing ones in a single pass. */
+    public List<DashboardDtos.DashboardResponse> getAll(UUID userId, List<DashboardDtos.ScopeRequest> requests) {
+        List<Key> keys = requests.stream()
+                .map(request -> key(userId, request.scope() == null ? "latest" : request.scope(), request.listId()))
+                .toList();
+        Map<Key, DashboardDtos.DashboardResponse> responses = cache.getAll(keys);
+        return keys.stream().map(responses::get).toList();
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgressChanged(ProgressChangedEvent event) {
+        evict(new Key(event.userId(), DashboardScope.LATEST, null));
+        evict(new Key(event.userId(), DashboardScope.ALL, null));
+        evict(new Key(event.userId(), DashboardScope.LIST, event.listId()));
+    }
+
+    private void evict(Key key) {
+        if (cache.asMap().remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    private static Key key(UUID userId, String scopeInput, UUID listId) {
+        DashboardScope scope = DashboardScope.from(scopeInput);
+        if (scope == DashboardScope.LIST && listId == null) {
+            throw new BadRequestException("listId is required when scope=list");
+        }
+        return new Key(userId, scope, scope == DashboardScope.LIST ? listId : null);
+    }
+
+    private record Key(UUID userId, DashboardScope scope, UUID listId) {
+        DashboardDtos.ScopeRequest toRequest() {
+            return new DashboardDtos.ScopeRequest(scope.value, listId);
+        }
+    }
+}
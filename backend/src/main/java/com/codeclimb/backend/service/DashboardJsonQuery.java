@@ -0,0 +1,167 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.DashboardDtos;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Computes every dashboard section in a single Postgres statement and returns it as one JSON document.
+ * The statement text for each scope is assembled once at startup.
+ */
+@Component
+class DashboardJsonQuery {
+
+    private static final String ALL_SCOPE_TEMPLATE_VERSION = "neet250.v1";
+    private static final String PROGRESS_ITEM = "json_build_object('neet250Id', x.neet250_id, 'orderIndex', x.order_index, "
+            + "'title', x.title, 'category', x.category, 'leetcodeSlug', x.leetcode_slug)";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Map<DashboardScope, String> statements = new EnumMap<>(DashboardScope.class);
+
+    DashboardJsonQuery(EntityManager entityManager, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        for (DashboardScope scope : DashboardScope.values()) {
+            statements.put(scope, buildStatement(scope));
+        }
+    }
+
+    Snapshot fetch(DashboardScope scope, UUID userId, UUID listId) {
+        Query query = entityManager.createNativeQuery(statements.get(scope)).setParameter("userId", userId);
+        if (scope == DashboardScope.LIST) {
+            query.setParameter("listId", listId);
+        }
+        try {
+            return objectMapper.readValue((String) query.getSingleResult(), Snapshot.class);
+        } catch (JsonProcessingException error) {
+            throw new IllegalStateException("Unreadable dashboard document", error);
+        }
+    }
+
+    private static String buildStatement(DashboardScope scope) {
+        String scopedList = switch (scope) {
+            case LATEST -> """
+                    select l.id, l.template_version
+                    from lists l
+                    where l.user_id = :userId and l.id = (select id from latest_list)
+                    """;
+            case LIST -> """
+                    select l.id, l.template_version
+                    from lists l
+                    where l.user_id = :userId and l.id = :listId
+                    """;
+            case ALL -> "select cast(null as uuid) as id, cast('" + ALL_SCOPE_TEMPLATE_VERSION + "' as varchar) as template_version";
+        };
+        String activityCondition = scope == DashboardScope.ALL ? "" : " and ae.list_id = (select id from scoped_list) ";
+        String solvedJoin = scope == DashboardScope.ALL ? " join lists l on l.id = ae.list_id " : "";
+        String solvedCondition = scope == DashboardScope.ALL
+                ? " and l.user_id = :userId and l.template_version = sl.template_version "
+                : " and ae.list_id = sl.id ";
+        return """
+                with latest_list as (
+                  select coalesce(
+                    (select ae.list_id from attempt_entries ae where ae.user_id = :userId order by ae.updated_at desc limit 1),
+                    (select l.id from lists l where l.user_id = :userId order by l.updated_at desc limit 1)
+                  ) as id
+                ),
+                scoped_list as (
+                  %1$s
+                ),
+                activity_attempts as (
+                  select ae.updated_at, ae.date_solved
+                  from attempt_entries ae
+                  where ae.user_id = :userId
+                    and (
+                      ae.solved is not null
+                      or ae.time_minutes is not null
+                      or ae.attempts is not null
+                      or ae.confidence is not null
+                      or ae.time_complexity is not null
+                      or ae.space_complexity is not null
+                      or nullif(trim(ae.notes), '') is not null
+                      or nullif(trim(ae.problem_url), '') is not null
+                    )
+                    %2$s
+                ),
+                solved_problems as (
+                  select p.neet250_id, p.order_index, p.title, p.category, p.leetcode_slug
+                  from problems p
+                  join scoped_list sl on sl.template_version = p.template_version
+                  where exists (
+                    select 1
+                    from attempt_entries ae
+                    %3$s
+                    where ae.user_id = :userId
+                      and ae.neet250_id = p.neet250_id
+                      and ae.solved = true
+                      %4$s
+                  )
+                ),
+                farthest as (
+                  select * from solved_problems order by order_index desc limit 1
+                ),
+                latest_solved as (
+                  select * from solved_problems order by order_index desc limit 2
+                ),
+                next_unsolved as (
+                  select p.neet250_id, p.order_index, p.title, p.category, p.leetcode_slug
+                  from problems p
+                  join scoped_list sl on sl.template_version = p.template_version
+                  where p.order_index > coalesce((select order_index from farthest), 0)
+                  order by p.order_index asc
+                  limit 4
+                ),
+                category_stats as (
+                  select p.category, count(sp.neet250_id) as solved_count, count(*) as total_in_category
+                  from problems p
+                  join scoped_list sl on sl.template_version = p.template_version
+                  left join solved_problems sp on sp.neet250_id = p.neet250_id
+                  group by p.category
+                )
+                select cast(json_build_object(
+                  'latestListId', (select id from latest_list),
+                  'scopedListId', (select id from scoped_list),
+                  'scopeResolved', exists (select 1 from scoped_list),
+                  'timezone', (select u.timezone from users u where u.id = :userId),
+                  'lastActivityAt', (select max(updated_at) from activity_attempts),
+                  'farthestProblem', (select %5$s from farthest x),
+                  'latestSolved', coalesce((select json_agg(%5$s order by x.order_index desc) from latest_solved x),
+                                           cast('[]' as json)),
+                  'nextUnsolved', coalesce((select json_agg(%5$s order by x.order_index asc) from next_unsolved x),
+                                           cast('[]' as json)),
+                  'totalSolved', (select count(*) from solved_problems),
+                  'byCategory', coalesce((
+                    select json_agg(json_build_object('category', c.category, 'solvedCount', c.solved_count,
+                                                      'totalInCategory', c.total_in_category) order by c.category)
+                    from category_stats c), cast('[]' as json)),
+                  'activityDays', coalesce((
+                    select json_agg(d.date_solved order by d.date_solved)
+                    from (select distinct date_solved from activity_attempts where date_solved is not null) d),
+                    cast('[]' as json))
+                ) as varchar)
+                """.formatted(scopedList, activityCondition, solvedJoin, solvedCondition, PROGRESS_ITEM);
+    }
+
+    record Snapshot(UUID latestListId,
+                    UUID scopedListId,
+                    boolean scopeResolved,
+                    String timezone,
+                    OffsetDateTime lastActivityAt,
+                    DashboardDtos.ProgressItem farthestProblem,
+                    List<DashboardDtos.ProgressItem> latestSolved,
+                    List<DashboardDtos.ProgressItem> nextUnsolved,
+                    long totalSolved,
+                    List<DashboardDtos.CategorySolvedStats> byCategory,
+                    List<LocalDate> activityDays) {}
+}
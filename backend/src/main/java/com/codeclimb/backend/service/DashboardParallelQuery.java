@@ -0,0 +1,114 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.DashboardDtos;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent history queries of one dashboard concurrently, each in its own read-only transaction
+ * on a bounded pool. Only the next-unsolved query waits, for the farthest solved problem. The calling thread must not
+ * hold a connection while it waits (open-in-view is off), and the pool stays below the connection pool size, so the
+ * queries can always get a connection.
+ */
+@Component
+class DashboardParallelQuery {
+
+    private static final RowMapper<DashboardDtos.ProgressItem> PROGRESS_ITEM = (rs, rowNum) ->
+            new DashboardDtos.ProgressItem(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getString(4), rs.getString(5));
+    private static final RowMapper<DashboardDtos.CategorySolvedStats> CATEGORY_STATS = (rs, rowNum) ->
+            new DashboardDtos.CategorySolvedStats(rs.getString(1), rs.getLong(2), rs.getLong(3));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final ThreadPoolTaskExecutor executor;
+
+    DashboardParallelQuery(NamedParameterJdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.dashboard.parallel.pool-size:8}") int poolSize,
+                           @Value("${app.dashboard.parallel.queue-capacity:100}") int queueCapacity,
+                           @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        if (poolSize >= connectionPoolSize) {
+            throw new IllegalArgumentException("app.dashboard.parallel.pool-size must be below the datasource's "
+                    + "maximum pool size (" + connectionPoolSize + ")");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("dashboard-");
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.initialize();
+    }
+
+    Result fetch(DashboardScope scope, UUID userId, UUID scopedListId, String templateVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("templateVersion", templateVersion);
+        if (scope != DashboardScope.ALL) {
+            params.addValue("scopedListId", scopedListId);
+        }
+        CompletableFuture<OffsetDateTime> lastActivityAt = async(() ->
+                jdbcTemplate.queryForObject(DashboardSql.lastActivity(scope), params, OffsetDateTime.class));
+        CompletableFuture<List<LocalDate>> activityDays = async(() ->
+                jdbcTemplate.queryForList(DashboardSql.activityDays(scope), params, LocalDate.class));
+        CompletableFuture<List<DashboardDtos.ProgressItem>> latestSolved = async(() ->
+                jdbcTemplate.query(DashboardSql.solvedProblems(scope, 2), params, PROGRESS_ITEM));
+        CompletableFuture<Long> totalSolved = async(() ->
+                jdbcTemplate.queryForObject(DashboardSql.totalSolved(scope), params, Long.class));
+        CompletableFuture<List<DashboardDtos.CategorySolvedStats>> byCategory = async(() ->
+                jdbcTemplate.query(DashboardSql.categoryStats(scope), params, CATEGORY_STATS));
+        CompletableFuture<List<DashboardDtos.ProgressItem>> nextUnsolved = latestSolved.thenComposeAsync(solved -> {
+            MapSqlParameterSource nextParams = new MapSqlParameterSource(params.getValues())
+                    .addValue("farthestOrder", solved.isEmpty() ? 0 : solved.get(0).orderIndex());
+            return async(() -> jdbcTemplate.query(DashboardSql.nextUnsolved(scope), nextParams, PROGRESS_ITEM));
+        }, executor);
+
+        try {
+            CompletableFuture.allOf(lastActivityAt, activityDays, totalSolved, byCategory, nextUnsolved).join();
+        } catch (CompletionException error) {
+            if (error.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw error;
+        }
+        List<DashboardDtos.ProgressItem> latest = latestSolved.join();
+        return new Result(lastActivityAt.join(), latest.isEmpty() ? null : latest.get(0), latest, nextUnsolved.join(),
+                totalSolved.join(), byCategory.join(), activityDays.join());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnly.execute(status -> query.get()), executor);
+    }
+
+    record Result(OffsetDateTime lastActivityAt,
+                  DashboardDtos.ProgressItem farthestProblem,
+                  List<DashboardDtos.ProgressItem> latestSolved,
+                  List<DashboardDtos.ProgressItem> nextUnsolved,
+                  long totalSolved,
+                  List<DashboardDtos.CategorySolvedStats> byCategory,
+                  List<LocalDate> activityDays) {}
+}
@@ -0,0 +1,22 @@
+package com.codeclimb.backend.service;
+
+enum DashboardScope {
+    LATEST("latest"),
+    LIST("list"),
+    ALL("all");
+
+    final String value;
+
+    DashboardScope(String value) {
+        this.value = value;
+    }
+
+    static DashboardScope from(String rawValue) {
+        for (DashboardScope scope : values()) {
+            if (scope.value.equalsIgnoreCase(rawValue)) {
+                return scope;
+            }
+        }
+        throw new BadRequestException("scope must be one of: latest, list, all");
+    }
+}
@@ -2,12 +2,15 @@ package com.codeclimb.backend.service;
 
 import com.codeclimb.backend.dto.DashboardDtos;
 import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.entity.ListProgressEntity;
 import com.codeclimb.backend.entity.UserEntity;
+import com.codeclimb.backend.entity.UserProgressEntity;
 import com.codeclimb.backend.repository.AttemptEntryRepository;
 import com.codeclimb.backend.repository.ListRepository;
 import com.codeclimb.backend.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.sql.Date;
@@ -19,9 +22,11 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -29,225 +34,297 @@ import java.util.UUID;
 public class DashboardService {
 
     private static final String ALL_SCOPE_TEMPLATE_VERSION = "neet250.v1";
-    private static final String NON_EMPTY_ATTEMPT_PREDICATE = """
-            (
-              ae.solved is not null
-              or ae.time_minutes is not null
-              or ae.attempts is not null
-              or ae.confidence is not null
-              or ae.time_complexity is not null
-              or ae.space_complexity is not null
-              or nullif(trim(ae.notes), '') is not null
-              or nullif(trim(ae.problem_url), '') is not null
-            )
-            """;
-
     private final AttemptEntryRepository attemptEntryRepository;
     private final ListRepository listRepository;
     private final UserRepository userRepository;
+    private final ListProgressService listProgressService;
+    private final UserProgressService userProgressService;
+    private final ProblemCatalog problemCatalog;
     private final EntityManager entityManager;
+    private final DashboardJsonQuery dashboardJsonQuery;
+    private final DashboardParallelQuery dashboardParallelQuery;
+    private final DashboardEngine engine;
 
     public DashboardService(AttemptEntryRepository attemptEntryRepository,
                             ListRepository listRepository,
                             UserRepository userRepository,
-                            EntityManager entityManager) {
+                            ListProgressService listProgressService,
+                            UserProgressService userProgressService,
+                            ProblemCatalog problemCatalog,
+                            EntityManager entityManager,
+                            DashboardJsonQuery dashboardJsonQuery,
+                            DashboardParallelQuery dashboardParallelQuery,
+                            @Value("${app.dashboard.engine:summary}") String engine) {
         this.attemptEntryRepository = attemptEntryRepository;
         this.listRepository = listRepository;
         this.userRepository = userRepository;
+        this.listProgressService = listProgressService;
+        this.userProgressService = userProgressService;
+        this.problemCatalog = problemCatalog;
         this.entityManager = entityManager;
+        this.dashboardJsonQuery = dashboardJsonQuery;
+        this.dashboardParallelQuery = dashboardParallelQuery;
+        this.engine = DashboardEngine.from(engine);
     }
 
     public DashboardDtos.DashboardResponse getDashboard(UUID userId, String scopeInput, UUID listId) {
-        DashboardScope scope = DashboardScope.from(scopeInput);
-        UUID latestOwnedListId = listRepository.findByUserIdOrderByUpdatedAtDesc(userId).stream()
+        return getDashboards(userId, List.of(new DashboardDtos.ScopeRequest(scopeInput, listId))).get(0);
+    }
+
+    /**
+     * Builds one dashboard per request, in order. The user's lists, latest list and timezone are
+     * resolved once and shared by every scope.
+     */
+    public List<DashboardDtos.DashboardResponse> getDashboards(UUID userId, List<DashboardDtos.ScopeRequest> requests) {
+        List<DashboardScope> scopes = new ArrayList<>();
+        for (DashboardDtos.ScopeRequest request : requests) {
+            DashboardScope scope = DashboardScope.from(request.scope() == null ? "latest" : request.scope());
+            if (scope == DashboardScope.LIST && request.listId() == null) {
+                throw new BadRequestException("listId is required when scope=list");
+            }
+            scopes.add(scope);
+        }
+        List<DashboardDtos.DashboardResponse> responses = new ArrayList<>();
+        if (engine == DashboardEngine.JSON) {
+            for (int i = 0; i < scopes.size(); i++) {
+                responses.add(fromSnapshot(scopes.get(i), dashboardJsonQuery.fetch(scopes.get(i), userId, requests.get(i).listId())));
+            }
+            return responses;
+        }
+        DashboardContext context = context(userId);
+        for (int i = 0; i < scopes.size(); i++) {
+            responses.add(getDashboard(context, scopes.get(i), requests.get(i).listId()));
+        }
+        return responses;
+    }
+
+    private DashboardContext context(UUID userId) {
+        List<ListEntity> ownedLists = listRepository.findByUserIdOrderByUpdatedAtDesc(userId);
+        UUID latestOwnedListId = ownedLists.stream()
                 .findFirst()
                 .map(ListEntity::getId)
                 .orElse(null);
         UUID latestListId = attemptEntryRepository.findLatestListForUser(userId)
                 .map(UUID::fromString)
                 .orElse(latestOwnedListId);
-        UUID scopedListId = null;
-        if (scope == DashboardScope.LATEST) {
-            scopedListId = latestListId;
-        }
-        if (scope == DashboardScope.LIST) {
-            if (listId == null) {
-                throw new BadRequestException("listId is required when scope=list");
-            }
-            scopedListId = listRepository.findByIdAndUserId(listId, userId)
-                    .orElseThrow(() -> new BadRequestException("List not found")).getId();
-        }
+        UserEntity user = userRepository.findById(userId).orElseThrow(() -> new BadRequestException("User not found"));
+        return new DashboardContext(userId, ownedLists, latestListId, resolveZone(user.getTimezone()));
+    }
 
-        ListEntity scopedList = scopedListId == null ? null : listRepository.findByIdAndUserId(scopedListId, userId)
+    private DashboardDtos.DashboardResponse getDashboard(DashboardContext context, DashboardScope scope, UUID listId) {
+        UUID userId = context.userId();
+        List<ListEntity> ownedLists = context.ownedLists();
+        UUID latestListId = context.latestListId();
+        ZoneId zone = context.zone();
+        UUID lookupListId = scope == DashboardScope.LIST ? listId : scope == DashboardScope.LATEST ? latestListId : null;
+        ListEntity scopedList = lookupListId == null ? null : ownedLists.stream()
+                .filter(list -> list.getId().equals(lookupListId))
+                .findFirst()
                 .orElseThrow(() -> new BadRequestException("List not found"));
+        UUID scopedListId = scopedList == null ? null : scopedList.getId();
         if (scope == DashboardScope.LATEST && scopedListId == null) {
-            return new DashboardDtos.DashboardResponse(scope.value, null, null, null, 0, 0d,
-                    null, null, null,
-                    new DashboardDtos.SolvedCounts(0, List.of()),
-                    List.of(),
-                    new DashboardDtos.RightPanel(List.of(), List.of()));
+            return emptyResponse(scope);
         }
 
         String templateVersion = scope == DashboardScope.ALL
                 ? ALL_SCOPE_TEMPLATE_VERSION
                 : scopedList.getTemplateVersion();
-        String scopeAttemptCondition = scope == DashboardScope.ALL ? "" : " and ae.list_id = :scopedListId ";
-
-        OffsetDateTime lastActivityAt = toOffsetDateTime(singleResult("""
-            select max(ae.updated_at)
-            from attempt_entries ae
-            where ae.user_id = :userId
-              and
-            """ + NON_EMPTY_ATTEMPT_PREDICATE + scopeAttemptCondition, userId, scopedListId));
-
-        DashboardDtos.ProgressItem farthestProblem = toFirstProgress(query("""
-            select p.neet250_id, p.order_index, p.title, p.category, p.leetcode_slug
-            from problems p
-            where p.template_version = :templateVersion
-              and exists (
-                select 1
-                from attempt_entries ae
-            """ + solvedScopeJoin(scope) + """
-                where ae.user_id = :userId
-                  and ae.neet250_id = p.neet250_id
-                  and ae.solved = true
-            """ + solvedScopeWhere(scope) + """
-              )
-            order by p.order_index desc
-            limit 1
-            """, userId, scopedListId, templateVersion));
 
-        Integer farthestOrder = farthestProblem == null ? null : farthestProblem.orderIndex();
-        String farthestCategory = farthestProblem == null ? null : farthestProblem.category();
-
-        List<DashboardDtos.ProgressItem> latestSolved = toProgressList(query("""
-            select p.neet250_id, p.order_index, p.title, p.category, p.leetcode_slug
-            from problems p
-            where p.template_version = :templateVersion
-              and exists (
-                select 1
-                from attempt_entries ae
-            """ + solvedScopeJoin(scope) + """
-                where ae.user_id = :userId
-                  and ae.neet250_id = p.neet250_id
-                  and ae.solved = true
-            """ + solvedScopeWhere(scope) + """
-              )
-            order by p.order_index desc
-            limit 2
-            """, userId, scopedListId, templateVersion));
-
-        List<DashboardDtos.ProgressItem> nextUnsolved = toProgressList(query("""
-            select p.neet250_id, p.order_index, p.title, p.category, p.leetcode_slug
-            from problems p
-            where p.template_version = :templateVersion
-              and p.order_index > :farthestOrder
-              and not exists (
-                select 1
-                from attempt_entries ae
-            """ + solvedScopeJoin(scope) + """
-                where ae.user_id = :userId
-                  and ae.neet250_id = p.neet250_id
-                  and ae.solved = true
-            """ + solvedScopeWhere(scope) + """
-              )
-            order by p.order_index asc
-            limit 4
-            """, userId, scopedListId, templateVersion, farthestOrder == null ? 0 : farthestOrder));
-
-        long totalSolved = ((Number) singleResult("""
-            select count(*)
-            from (
-              select distinct p.neet250_id
-              from problems p
-              where p.template_version = :templateVersion
-                and exists (
-                  select 1
-                  from attempt_entries ae
-            """ + solvedScopeJoin(scope) + """
-                  where ae.user_id = :userId
-                    and ae.neet250_id = p.neet250_id
-                    and ae.solved = true
-            """ + solvedScopeWhere(scope) + """
-                )
-            ) solved
-            """, userId, scopedListId, templateVersion)).longValue();
-
-        List<DashboardDtos.CategorySolvedStats> solvedByCategory = toCategorySolvedStats(query("""
-            with category_totals as (
-              select p.category, count(*) as total_in_category
-              from problems p
-              where p.template_version = :templateVersion
-              group by p.category
-            ),
-            solved_by_problem as (
-              select p.category, p.neet250_id
-              from problems p
-              where p.template_version = :templateVersion
-                and exists (
-                  select 1
-                  from attempt_entries ae
-            """ + solvedScopeJoin(scope) + """
-                  where ae.user_id = :userId
-                    and ae.neet250_id = p.neet250_id
-                    and ae.solved = true
-            """ + solvedScopeWhere(scope) + """
-                )
-              group by p.category, p.neet250_id
-            )
-            select ct.category,
-                   coalesce(count(sbp.neet250_id), 0) as solved_count,
-                   ct.total_in_category
-            from category_totals ct
-            left join solved_by_problem sbp on sbp.category = ct.category
-            group by ct.category, ct.total_in_category
-            order by ct.category
-            """, userId, scopedListId, templateVersion));
-
-        Set<LocalDate> attemptDays = new HashSet<>();
-        for (Object value : query("""
-            select distinct ae.date_solved
-            from attempt_entries ae
-            where ae.user_id = :userId
-              and ae.date_solved is not null
-              and
-            """ + NON_EMPTY_ATTEMPT_PREDICATE + scopeAttemptCondition + """
-            order by ae.date_solved asc
-            """, userId, scopedListId)) {
-            attemptDays.add(toLocalDate(value));
-        }
-        List<String> activityDays = attemptDays.stream()
-                .sorted()
+        OffsetDateTime lastActivityAt;
+        SolvedProgress solvedProgress;
+        ActivityDays activity;
+        if (engine == DashboardEngine.SUMMARY && scopedList != null) {
+            ListProgressEntity progress = listProgressService.load(scopedList);
+            lastActivityAt = progress.getLastActivityAt();
+            activity = ListProgressService.activityDays(progress);
+            solvedProgress = solvedProgressFromBits(problemCatalog.template(progress.getTemplateVersion()),
+                    ListProgressService.solvedBits(progress), progress.getSolvedByCategory());
+        } else if (engine == DashboardEngine.SUMMARY) {
+            lastActivityAt = null;
+            activity = ActivityDays.empty();
+            UserProgressEntity templateRollup = null;
+            for (UserProgressEntity rollup : loadRollups(userId, ownedLists)) {
+                activity.or(UserProgressService.activityDays(rollup));
+                if (rollup.getLastActivityAt() != null
+                        && (lastActivityAt == null || rollup.getLastActivityAt().isAfter(lastActivityAt))) {
+                    lastActivityAt = rollup.getLastActivityAt();
+                }
+                if (rollup.getTemplateVersion().equals(templateVersion)) {
+                    templateRollup = rollup;
+                }
+            }
+            solvedProgress = templateRollup == null
+                    ? solvedProgressFromBits(problemCatalog.template(templateVersion), new BitSet(), Map.of())
+                    : solvedProgressFromBits(problemCatalog.template(templateVersion),
+                            BitSet.valueOf(templateRollup.getSolvedBitmap()), templateRollup.getSolvedByCategory());
+        } else if (engine == DashboardEngine.PARALLEL) {
+            DashboardParallelQuery.Result result = dashboardParallelQuery.fetch(scope, userId, scopedListId, templateVersion);
+            lastActivityAt = result.lastActivityAt();
+            activity = ActivityDays.of(result.activityDays());
+            solvedProgress = new SolvedProgress(result.farthestProblem(), result.latestSolved(), result.nextUnsolved(),
+                    result.totalSolved(), result.byCategory());
+        } else {
+            lastActivityAt = toOffsetDateTime(singleResult(DashboardSql.lastActivity(scope), userId, scopedListId));
+            if (engine == DashboardEngine.BITSET) {
+                ProblemCatalog.Template template = problemCatalog.template(templateVersion);
+                solvedProgress = solvedProgressFromBits(template,
+                        solvedOrderIndexes(scope, userId, scopedListId, template), null);
+            } else {
+                solvedProgress = solvedProgressFromHistory(scope, userId, scopedListId, templateVersion);
+            }
+            List<LocalDate> attemptDays = new ArrayList<>();
+            for (Object value : query(DashboardSql.activityDays(scope), userId, scopedListId)) {
+                attemptDays.add(toLocalDate(value));
+            }
+            activity = ActivityDays.of(attemptDays);
+        }
+
+        return toResponse(scope, latestListId, scopedListId, lastActivityAt, activity, zone, solvedProgress);
+    }
+
+    private List<UserProgressEntity> loadRollups(UUID userId, List<ListEntity> ownedLists) {
+        List<UserProgressEntity> rollups = new ArrayList<>(userProgressService.findAll(userId));
+        Set<String> built = new HashSet<>();
+        rollups.forEach(rollup -> built.add(rollup.getTemplateVersion()));
+        for (ListEntity list : ownedLists) {
+            if (built.add(list.getTemplateVersion())) {
+                ownedLists.stream()
+                        .filter(other -> other.getTemplateVersion().equals(list.getTemplateVersion()))
+                        .forEach(listProgressService::load);
+                rollups.add(userProgressService.rebuild(userId, list.getTemplateVersion()));
+            }
+        }
+        return rollups;
+    }
+
+    private DashboardDtos.DashboardResponse fromSnapshot(DashboardScope scope, DashboardJsonQuery.Snapshot snapshot) {
+        if (scope == DashboardScope.LIST && !snapshot.scopeResolved()) {
+            throw new BadRequestException("List not found");
+        }
+        if (scope == DashboardScope.LATEST && snapshot.scopedListId() == null) {
+            return emptyResponse(scope);
+        }
+        SolvedProgress solvedProgress = new SolvedProgress(snapshot.farthestProblem(), snapshot.latestSolved(),
+                snapshot.nextUnsolved(), snapshot.totalSolved(), snapshot.byCategory());
+        return toResponse(scope, snapshot.latestListId(), snapshot.scopedListId(), snapshot.lastActivityAt(),
+                ActivityDays.of(snapshot.activityDays()), resolveZone(snapshot.timezone()), solvedProgress);
+    }
+
+    private DashboardDtos.DashboardResponse toResponse(DashboardScope scope, UUID latestListId, UUID scopedListId,
+                                                       OffsetDateTime lastActivityAt, ActivityDays activity, ZoneId zone,
+                                                       SolvedProgress solvedProgress) {
+        List<String> activityDays = activity.days().stream()
                 .map(LocalDate::toString)
                 .toList();
+        int streakCurrent = activity.currentStreak(LocalDate.now(zone));
+        double streakAverage = activity.averageStreak();
 
-        UserEntity user = userRepository.findById(userId).orElseThrow(() -> new BadRequestException("User not found"));
-        LocalDate today = LocalDate.now(ZoneOffset.UTC);
-        int streakCurrent = computeCurrentStreak(attemptDays, today);
-        double streakAverage = computeAverageStreak(attemptDays);
-
+        DashboardDtos.ProgressItem farthestProblem = solvedProgress.farthestProblem();
         return new DashboardDtos.DashboardResponse(scope.value,
                 scope == DashboardScope.LATEST ? latestListId : null,
                 scope == DashboardScope.LIST ? scopedListId : null,
                 lastActivityAt,
                 streakCurrent,
                 streakAverage,
-                farthestCategory,
-                farthestOrder,
+                farthestProblem == null ? null : farthestProblem.category(),
+                farthestProblem == null ? null : farthestProblem.orderIndex(),
                 farthestProblem,
-                new DashboardDtos.SolvedCounts(totalSolved, solvedByCategory),
+                new DashboardDtos.SolvedCounts(solvedProgress.totalSolved(), solvedProgress.byCategory()),
                 activityDays,
-                new DashboardDtos.RightPanel(latestSolved, nextUnsolved));
+                new DashboardDtos.RightPanel(solvedProgress.latestSolved(), solvedProgress.nextUnsolved()),
+                activity.ranges());
     }
 
-    private String solvedScopeJoin(DashboardScope scope) {
-        return scope == DashboardScope.ALL ? " join lists l on l.id = ae.list_id " : "";
+    private DashboardDtos.DashboardResponse emptyResponse(DashboardScope scope) {
+        return new DashboardDtos.DashboardResponse(scope.value, null, null, null, 0, 0d,
+                null, null, null,
+                new DashboardDtos.SolvedCounts(0, List.of()),
+                List.of(),
+                new DashboardDtos.RightPanel(List.of(), List.of()),
+                List.of());
+    }
+
+    private BitSet solvedOrderIndexes(DashboardScope scope, UUID userId, UUID scopedListId, ProblemCatalog.Template template) {
+        Query query = entityManager.createNativeQuery("""
+                select distinct ae.neet250_id
+                from attempt_entries ae
+                """ + DashboardSql.solvedScopeJoin(scope) + """
+                where ae.user_id = :userId
+                  and ae.solved = true
+                """ + DashboardSql.solvedScopeWhere(scope))
+                .setParameter("userId", userId);
+        if (scope == DashboardScope.ALL) {
+            query.setParameter("templateVersion", template.templateVersion());
+        } else {
+            query.setParameter("scopedListId", scopedListId);
+        }
+        List<Integer> neetIds = new ArrayList<>();
+        for (Object value : query.getResultList()) {
+            neetIds.add(((Number) value).intValue());
+        }
+        return template.toOrderIndexes(neetIds);
     }
 
-    private String solvedScopeWhere(DashboardScope scope) {
-        return scope == DashboardScope.ALL
-                ? " and l.user_id = :userId and l.template_version = :templateVersion "
-                : " and ae.list_id = :scopedListId ";
+    private SolvedProgress solvedProgressFromBits(ProblemCatalog.Template template, BitSet solved,
+                                                  Map<String, Integer> solvedByCategory) {
+        List<DashboardDtos.ProgressItem> latestSolved = new ArrayList<>();
+        Map<String, Integer> categoryCounts = solvedByCategory == null ? new HashMap<>() : solvedByCategory;
+        for (int orderIndex = solved.previousSetBit(template.maxOrderIndex()); orderIndex >= 0;
+             orderIndex = solved.previousSetBit(orderIndex - 1)) {
+            ProblemCatalog.Problem problem = template.byOrderIndex(orderIndex);
+            if (problem == null) {
+                continue;
+            }
+            if (latestSolved.size() < 2) {
+                latestSolved.add(toProgress(problem));
+            }
+            if (solvedByCategory == null) {
+                categoryCounts.merge(problem.category(), 1, Integer::sum);
+            } else if (latestSolved.size() == 2) {
+                break;
+            }
+        }
+        DashboardDtos.ProgressItem farthestProblem = latestSolved.isEmpty() ? null : latestSolved.get(0);
+
+        List<DashboardDtos.ProgressItem> nextUnsolved = new ArrayList<>();
+        int start = farthestProblem == null ? 1 : farthestProblem.orderIndex() + 1;
+        for (int orderIndex = solved.nextClearBit(start); orderIndex <= template.maxOrderIndex() && nextUnsolved.size() < 4;
+             orderIndex = solved.nextClearBit(orderIndex + 1)) {
+            ProblemCatalog.Problem problem = template.byOrderIndex(orderIndex);
+            if (problem != null) {
+                nextUnsolved.add(toProgress(problem));
+            }
+        }
+
+        long totalSolved = 0;
+        List<DashboardDtos.CategorySolvedStats> byCategory = new ArrayList<>();
+        for (Map.Entry<String, Integer> category : template.categoryTotals().entrySet()) {
+            int solvedCount = categoryCounts.getOrDefault(category.getKey(), 0);
+            totalSolved += solvedCount;
+            byCategory.add(new DashboardDtos.CategorySolvedStats(category.getKey(), solvedCount, category.getValue()));
+        }
+        return new SolvedProgress(farthestProblem, latestSolved, nextUnsolved, totalSolved, byCategory);
+    }
+
+    private SolvedProgress solvedProgressFromHistory(DashboardScope scope, UUID userId, UUID scopedListId, String templateVersion) {
+        DashboardDtos.ProgressItem farthestProblem = toFirstProgress(query(DashboardSql.solvedProblems(scope, 1),
+                userId, scopedListId, templateVersion));
+
+        Integer farthestOrder = farthestProblem == null ? null : farthestProblem.orderIndex();
+
+        List<DashboardDtos.ProgressItem> latestSolved = toProgressList(query(DashboardSql.solvedProblems(scope, 2),
+                userId, scopedListId, templateVersion));
+
+        List<DashboardDtos.ProgressItem> nextUnsolved = toProgressList(query(DashboardSql.nextUnsolved(scope),
+                userId, scopedListId, templateVersion, farthestOrder == null ? 0 : farthestOrder));
+
+        long totalSolved = ((Number) singleResult(DashboardSql.totalSolved(scope),
+                userId, scopedListId, templateVersion)).longValue();
+
+        List<DashboardDtos.CategorySolvedStats> solvedByCategory = toCategorySolvedStats(query(
+                DashboardSql.categoryStats(scope), userId, scopedListId, templateVersion));
+
+        return new SolvedProgress(farthestProblem, latestSolved, nextUnsolved, totalSolved, solvedByCategory);
     }
 
     private List<?> query(String sql, UUID userId, UUID scopedListId) {
@@ -316,6 +393,11 @@ public class DashboardService {
         return new DashboardDtos.ProgressItem(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), (String) row[2], (String) row[3], (String) row[4]);
     }
 
+    private DashboardDtos.ProgressItem toProgress(ProblemCatalog.Problem problem) {
+        return new DashboardDtos.ProgressItem(problem.neet250Id(), problem.orderIndex(), problem.title(),
+                problem.category(), problem.leetcodeSlug());
+    }
+
     private List<DashboardDtos.CategorySolvedStats> toCategorySolvedStats(List<?> rows) {
         List<DashboardDtos.CategorySolvedStats> stats = new ArrayList<>();
         for (Object rowObj : rows) {
@@ -326,42 +408,7 @@ public class DashboardService {
         return stats;
     }
 
-    private int computeCurrentStreak(Set<LocalDate> dates, LocalDate today) {
-        int streak = 0;
-        LocalDate cursor = today;
-        while (dates.contains(cursor)) {
-            streak++;
-            cursor = cursor.minusDays(1);
-        }
-        return streak;
-    }
-
-    private double computeAverageStreak(Set<LocalDate> dates) {
-        if (dates.isEmpty()) {
-            return 0d;
-        }
-        List<LocalDate> sorted = dates.stream().sorted(Comparator.naturalOrder()).toList();
-        int runs = 0;
-        int currentRun = 0;
-        int totalLength = 0;
-        LocalDate previous = null;
-        for (LocalDate date : sorted) {
-            if (previous == null || !date.equals(previous.plusDays(1))) {
-                if (currentRun > 0) {
-                    totalLength += currentRun;
-                }
-                runs++;
-                currentRun = 1;
-            } else {
-                currentRun++;
-            }
-            previous = date;
-        }
-        totalLength += currentRun;
-        return (double) totalLength / runs;
-    }
-
-    private ZoneId resolveZone(String timezone) {
+    static ZoneId resolveZone(String timezone) {
         try {
             return ZoneId.of(timezone);
         } catch (Exception ignored) {
@@ -404,24 +451,34 @@ public class DashboardService {
         return ((Timestamp) value).toInstant().atOffset(ZoneOffset.UTC);
     }
 
-    private enum DashboardScope {
-        LATEST("latest"),
-        LIST("list"),
-        ALL("all");
+    private record DashboardContext(UUID userId, List<ListEntity> ownedLists, UUID latestListId, ZoneId zone) {}
+
+    private record SolvedProgress(DashboardDtos.ProgressItem farthestProblem,
+                                  List<DashboardDtos.ProgressItem> latestSolved,
+                                  List<DashboardDtos.ProgressItem> nextUnsolved,
+                                  long totalSolved,
+                                  List<DashboardDtos.CategorySolvedStats> byCategory) {}
+
+    private enum DashboardEngine {
+        SUMMARY("summary"),
+        SQL("sql"),
+        JSON("json"),
+        BITSET("bitset"),
+        PARALLEL("parallel");
 
         private final String value;
 
-        DashboardScope(String value) {
+        DashboardEngine(String value) {
             this.value = value;
         }
 
-        static DashboardScope from(String rawValue) {
-            for (DashboardScope scope : values()) {
-                if (scope.value.equalsIgnoreCase(rawValue)) {
-                    return scope;
+        static DashboardEngine from(String rawValue) {
+            for (DashboardEngine engine : values()) {
+                if (engine.value.equalsIgnoreCase(rawValue)) {
+                    return engine;
                 }
             }
-            throw new BadRequestException("scope must be one of: latest, list, all");
+            throw new IllegalArgumentException("app.dashboard.engine must be one of: summary, sql, json, bitset, parallel");
         }
     }
 }
@@ -0,0 +1,150 @@
+package com.codeclimb.backend.service;
+
+/**
+ * Native statements behind the history-based dashboard engines. {@code :userId} is always bound;
+ * {@code :scopedListId} for the latest/list scopes and {@code :templateVersion} for the solved-set queries.
+ */
+final class DashboardSql {
+
+    static final String NON_EMPTY_ATTEMPT_PREDICATE = """
+            (
+              ae.solved is not null
+              or ae.time_minutes is not null
+              or ae.attempts is not null
+              or ae.confidence is not null
+              or ae.time_complexity is not null
+              or ae.space_complexity is not null
+              or nullif(trim(ae.notes), '') is not null
+              or nullif(trim(ae.problem_url), '') is not null
+            )
+            """;
+
+    private DashboardSql() {}
+
+    static String lastActivity(DashboardScope scope) {
+        return """
+            select max(ae.updated_at)
+            from attempt_entries ae
+            where ae.user_id = :userId
+              and
+            """ + NON_EMPTY_ATTEMPT_PREDICATE + attemptScopeWhere(scope);
+    }
+
+    static String activityDays(DashboardScope scope) {
+        return """
+            select distinct ae.date_solved
+            from attempt_entries ae
+            where ae.user_id = :userId
+              and ae.date_solved is not null
+              and
+            """ + NON_EMPTY_ATTEMPT_PREDICATE + attemptScopeWhere(scope);
+    }
+
+    /** Solved problems of the scope, farthest first. */
+    static String solvedProblems(DashboardScope scope, int limit) {
+        return """
+            select p.neet250_id, p.order_index, p.title, p.category, p.leetcode_slug
+            from problems p
+            where p.template_version = :templateVersion
+              and exists (
+                select 1
+                from attempt_entries ae
+            """ + solvedScopeJoin(scope) + """
+                where ae.user_id = :userId
+                  and ae.neet250_id = p.neet250_id
+                  and ae.solved = true
+            """ + solvedScopeWhere(scope) + """
+              )
+            order by p.order_index desc
+            limit %d
+            """.formatted(limit);
+    }
+
+    /** Needs {@code :farthestOrder}, the order index of the farthest solved problem or 0. */
+    static String nextUnsolved(DashboardScope scope) {
+        return """
+            select p.neet250_id, p.order_index, p.title, p.category, p.leetcode_slug
+            from problems p
+            where p.template_version = :templateVersion
+              and p.order_index > :farthestOrder
+              and not exists (
+                select 1
+                from attempt_entries ae
+            """ + solvedScopeJoin(scope) + """
+                where ae.user_id = :userId
+                  and ae.neet250_id = p.neet250_id
+                  and ae.solved = true
+            """ + solvedScopeWhere(scope) + """
+              )
+            order by p.order_index asc
+            limit 4
+            """;
+    }
+
+    static String totalSolved(DashboardScope scope) {
+        return """
+            select count(*)
+            from (
+              select distinct p.neet250_id
+              from problems p
+              where p.template_version = :templateVersion
+                and exists (
+                  select 1
+                  from attempt_entries ae
+            """ + solvedScopeJoin(scope) + """
+                  where ae.user_id = :userId
+                    and ae.neet250_id = p.neet250_id
+                    and ae.solved = true
+            """ + solvedScopeWhere(scope) + """
+                )
+            ) solved
+            """;
+    }
+
+    static String categoryStats(DashboardScope scope) {
+        return """
+            with category_totals as (
+              select p.category, count(*) as total_in_category
+              from problems p
+              where p.template_version = :templateVersion
+              group by p.category
+            ),
+            solved_by_problem as (
+              select p.category, p.neet250_id
+              from problems p
+              where p.template_version = :templateVersion
+                and exists (
+                  select 1
+                  from attempt_entries ae
+            """ + solvedScopeJoin(scope) + """
+                  where ae.user_id = :userId
+                    and ae.neet250_id = p.neet250_id
+                    and ae.solved = true
+            """ + solvedScopeWhere(scope) + """
+                )
+              group by p.category, p.neet250_id
+            )
+            select ct.category,
+                   coalesce(count(sbp.neet250_id), 0) as solved_count,
+                   ct.total_in_category
+            from category_totals ct
+            left join solved_by_problem sbp on sbp.category = ct.category
+            group by ct.category, ct.total_in_category
+            order by ct.category
+            """;
+    }
+
+    static String solvedScopeJoin(DashboardScope scope) {
+        return scope == DashboardScope.ALL ? " join lists l on l.id = ae.list_id " : "";
+    }
+
+    static String solvedScopeWhere(DashboardScope scope) {
+        return scope == DashboardScope.ALL
+                ? " and l.user_id = :userId and l.template_version = :templateVersion "
+                : " and ae.list_id = :scopedListId ";
+    }
+
+    private static String attemptScopeWhere(DashboardScope scope) {
+        return scope == DashboardScope.ALL ? "" : " and ae.list_id = :scopedListId ";
+    }
+}
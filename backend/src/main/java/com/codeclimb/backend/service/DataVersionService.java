@@ -0,0 +1,55 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.repository.ListRepository;
+import com.codeclimb.backend.repository.UserRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Per-user and per-list data versions used as entity tags. Every attempt and list write bumps both counters
+ * inside the writing transaction, so a tag can be checked with a primary-key lookup instead of the read query.
+ */
+@Service
+public class DataVersionService {
+
+    private final UserRepository userRepository;
+    private final ListRepository listRepository;
+
+    public DataVersionService(UserRepository userRepository, ListRepository listRepository) {
+        this.userRepository = userRepository;
+        this.listRepository = listRepository;
+    }
+
+    @EventListener
+    public void onProgressChanged(ProgressChangedEvent event) {
+        userRepository.incrementDataVersion(event.userId());
+        listRepository.incrementDataVersion(event.listId());
+    }
+
+    public Optional<String> listTag(UUID userId, UUID listId) {
+        return listVersion(userId, listId).map(version -> listTag(listId, version));
+    }
+
+    /** The list's data version, which also serves as the {@code since} cursor of its problem rows. */
+    public Optional<Long> listVersion(UUID userId, UUID listId) {
+        return listRepository.findDataVersion(listId, userId);
+    }
+
+    public static String listTag(UUID listId, long version) {
+        return listId + "-" + version;
+    }
+
+    public Optional<String> userTag(UUID userId) {
+        return userRepository.findDataVersion(userId).map(version -> userId + "-" + version);
+    }
+
+    /** Streaks move with the calendar, so the dashboard tag also carries the current day in the user's zone. */
+    public Optional<String> dashboardTag(UUID userId) {
+        return userRepository.findById(userId).map(user -> userId + "-" + user.getDataVersion() + "-"
+                + LocalDate.now(DashboardService.resolveZone(user.getTimezone())));
+    }
+}
@@ -0,0 +1,23 @@
+package com.codeclimb.backend.service;
+
+public enum ExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv;charset=UTF-8");
+
+    public final String extension;
+    public final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public static ExportFormat from(String rawValue) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(rawValue)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("format must be one of: ndjson, csv");
+    }
+}
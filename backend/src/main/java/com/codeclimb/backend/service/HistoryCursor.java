@@ -0,0 +1,29 @@
+package com.codeclimb.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/** Position after the last attempt of a history page, sent to clients as opaque base64url text. */
+record HistoryCursor(OffsetDateTime updatedAt, UUID id) {
+
+    String encode() {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt.toInstant());
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((micros + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static HistoryCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split(":", 2);
+            Instant updatedAt = Instant.EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS);
+            return new HistoryCursor(updatedAt.atOffset(ZoneOffset.UTC), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException error) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.AttemptDtos;
+
+import java.util.List;
+
+/** One keyset page of a problem's attempts; {@code nextCursor} is null on the last page, {@code total} unless asked. */
+public record HistoryPage(List<AttemptDtos.AttemptResponse> attempts, String nextCursor, Long total) {}
@@ -0,0 +1,10 @@
+package com.codeclimb.backend.service;
+
+import java.util.UUID;
+
+/** Source of primary keys for new attempt and list rows; see {@code app.ids.generator}. */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+}
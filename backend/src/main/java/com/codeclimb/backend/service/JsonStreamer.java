@@ -0,0 +1,87 @@
+package com.codeclimb.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads the rows of a streamed response in keyset chunks and opens the generator they are written to. Each chunk is
+ * one short read-only transaction that has ended before its rows are written, so memory stays bounded by the chunk
+ * size and a slow client holds neither a connection nor a snapshot open while the response goes out.
+ */
+@Component
+class JsonStreamer {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final int chunkSize;
+
+    JsonStreamer(DataSource dataSource,
+                 PlatformTransactionManager transactionManager,
+                 ObjectMapper objectMapper,
+                 @Value("${app.streaming.chunk-size:200}") int chunkSize) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.chunkSize = chunkSize;
+    }
+
+    /** A JSON or Smile generator over the body that has already started an array. */
+    JsonGenerator startArray(StreamBody body) throws IOException {
+        JsonGenerator json = (body.smile() ? smileMapper : objectMapper).getFactory().createGenerator(body.out());
+        json.writeStartArray();
+        return json;
+    }
+
+    /** Reads every row of {@code sql} in a read-only transaction that has ended by the time the rows are returned. */
+    <T> List<T> query(String sql, SqlParameterSource params, RowMapper<T> mapper) {
+        return readOnly.execute(status -> jdbcTemplate.query(sql, params, mapper));
+    }
+
+    /**
+     * Reads up to {@code maxRows} rows, {@code chunk-size} at a time, and hands each to {@code action} after its chunk's
+     * transaction has ended. {@code next} gives the statement for the rows after {@code last}, or for the first chunk
+     * when it is null; the statement must end with {@code limit :limit}. A short chunk ends the read.
+     */
+    <T> void forEachChunk(int maxRows, Function<T, Chunk> next, RowMapper<T> mapper, RowAction<T> action) throws IOException {
+        T last = null;
+        int remaining = maxRows;
+        while (remaining > 0) {
+            int limit = Math.min(chunkSize, remaining);
+            Chunk chunk = next.apply(last);
+            List<T> rows = query(chunk.sql(), chunk.params().addValue("limit", limit), mapper);
+            for (T row : rows) {
+                action.accept(row);
+            }
+            if (rows.size() < limit) {
+                return;
+            }
+            last = rows.get(rows.size() - 1);
+            remaining -= rows.size();
+        }
+    }
+
+    record Chunk(String sql, MapSqlParameterSource params) {}
+
+    @FunctionalInterface
+    interface RowAction<T> {
+        void accept(T row) throws IOException;
+    }
+}
@@ -0,0 +1,215 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.entity.ListProgressEntity;
+import com.codeclimb.backend.repository.AttemptEntryRepository;
+import com.codeclimb.backend.repository.ListProgressRepository;
+import com.codeclimb.backend.repository.ListRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the per-list progress summary read by the dashboard. Attempt writes call
+ * {@link #recordAttemptChange} inside their own transaction, which also forwards the change to the
+ * user's rollup; lists without a summary row (created before the table existed) are rebuilt from
+ * history on first use. Concurrent first reads both rebuild; {@link ListProgressRepository#claim} makes the
+ * later one update the row instead of failing on its primary key.
+ */
+@Service
+public class ListProgressService {
+
+    private final ListProgressRepository listProgressRepository;
+    private final ListRepository listRepository;
+    private final AttemptEntryRepository attemptEntryRepository;
+    private final ProblemCatalog problemCatalog;
+    private final UserProgressService userProgressService;
+    private final EntityManager entityManager;
+
+    public ListProgressService(ListProgressRepository listProgressRepository,
+                               ListRepository listRepository,
+                               AttemptEntryRepository attemptEntryRepository,
+                               ProblemCatalog problemCatalog,
+                               UserProgressService userProgressService,
+                               EntityManager entityManager) {
+        this.listProgressRepository = listProgressRepository;
+        this.listRepository = listRepository;
+        this.attemptEntryRepository = attemptEntryRepository;
+        this.problemCatalog = problemCatalog;
+        this.userProgressService = userProgressService;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    public ListProgressEntity load(ListEntity list) {
+        ListProgressEntity progress = listProgressRepository.findById(list.getId()).orElse(null);
+        if (progress == null) {
+            return rebuild(list);
+        }
+        if (progress.getActivityBitmap() == null) {
+            storeActivity(progress, ActivityDays.of(attemptEntryRepository.findActivityDays(list.getId())));
+            progress = listProgressRepository.save(progress);
+            userProgressService.invalidate(progress.getUserId(), progress.getTemplateVersion());
+        }
+        return progress;
+    }
+
+    @Transactional
+    public void initialize(ListEntity list) {
+        ListProgressEntity progress = new ListProgressEntity();
+        progress.setListId(list.getId());
+        progress.setUserId(list.getUserId());
+        progress.setTemplateVersion(list.getTemplateVersion());
+        storeActivity(progress, ActivityDays.empty());
+        progress.setUpdatedAt(OffsetDateTime.now());
+        listProgressRepository.save(progress);
+    }
+
+    /**
+     * Re-evaluates the solved state of one problem after an attempt row of the list was written
+     * or deleted. {@code activityAt} is the written row's {@code updated_at}, or null for deletes,
+     * in which case the last activity timestamp is recomputed. {@code activityDays} are the row's
+     * {@code date_solved} values before and after the write; only those days are re-checked.
+     */
+    @Transactional
+    public void recordAttemptChange(UUID userId, UUID listId, Integer neetId, OffsetDateTime activityAt,
+                                    LocalDate... activityDays) {
+        ListProgressEntity progress = listProgressRepository.findForUpdate(listId).orElse(null);
+        if (progress == null) {
+            ListEntity list = listRepository.findByIdAndUserId(listId, userId)
+                    .orElseThrow(() -> new BadRequestException("List not found"));
+            rebuild(list);
+            return;
+        }
+        ProblemCatalog.Problem problem = problemCatalog.template(progress.getTemplateVersion()).byNeetId(neetId);
+        if (problem == null) {
+            throw new BadRequestException("Problem not found");
+        }
+        boolean solved = attemptEntryRepository.existsByListIdAndNeet250IdAndSolvedTrue(listId, neetId);
+        BitSet bits = solvedBits(progress);
+        if (bits.get(problem.orderIndex()) != solved) {
+            bits.set(problem.orderIndex(), solved);
+            int delta = solved ? 1 : -1;
+            progress.setSolvedBitmap(bits.toByteArray());
+            progress.setTotalSolved(progress.getTotalSolved() + delta);
+            progress.setFarthestOrderIndex(bits.isEmpty() ? null : bits.length() - 1);
+            progress.getSolvedByCategory().merge(problem.category(), delta, Integer::sum);
+            progress.getSolvedByCategory().remove(problem.category(), 0);
+        }
+        if (activityAt == null) {
+            progress.setLastActivityAt(toOffsetDateTime(attemptEntryRepository.findLastActivityAt(userId, listId)));
+        } else if (progress.getLastActivityAt() == null || activityAt.isAfter(progress.getLastActivityAt())) {
+            progress.setLastActivityAt(activityAt);
+        }
+        if (progress.getActivityBitmap() == null) {
+            storeActivity(progress, ActivityDays.of(attemptEntryRepository.findActivityDays(listId)));
+        } else {
+            ActivityDays activity = activityDays(progress);
+            for (LocalDate day : activityDays) {
+                if (day != null) {
+                    activity.set(day, attemptEntryRepository.existsActivityOnDay(listId, day));
+                }
+            }
+            storeActivity(progress, activity);
+        }
+        progress.setUpdatedAt(OffsetDateTime.now());
+        listProgressRepository.save(progress);
+        userProgressService.recordListChange(progress, problem.orderIndex(), problem.category(), activityDays);
+    }
+
+    /**
+     * For writes that touch many problems of a list at once: takes the same row lock as
+     * {@link #recordAttemptChange} and rebuilds the summary from history in a fixed number of queries.
+     */
+    @Transactional
+    public void recordBulkChange(ListEntity list) {
+        listProgressRepository.findForUpdate(list.getId());
+        rebuild(list);
+    }
+
+    @Transactional
+    public ListProgressEntity rebuild(ListEntity list) {
+        BitSet bits = new BitSet();
+        Map<String, Integer> solvedByCategory = new HashMap<>();
+        for (Object rowObj : entityManager.createNativeQuery("""
+                select p.order_index, p.category
+                from problems p
+                where p.template_version = :templateVersion
+                  and exists (
+                    select 1
+                    from attempt_entries ae
+                    where ae.user_id = :userId
+                      and ae.list_id = :listId
+                      and ae.neet250_id = p.neet250_id
+                      and ae.solved = true
+                  )
+                """)
+                .setParameter("templateVersion", list.getTemplateVersion())
+                .setParameter("userId", list.getUserId())
+                .setParameter("listId", list.getId())
+                .getResultList()) {
+            Object[] row = (Object[]) rowObj;
+            bits.set(((Number) row[0]).intValue());
+            solvedByCategory.merge((String) row[1], 1, Integer::sum);
+        }
+        ListProgressEntity progress = new ListProgressEntity();
+        progress.setListId(list.getId());
+        progress.setUserId(list.getUserId());
+        progress.setTemplateVersion(list.getTemplateVersion());
+        progress.setSolvedBitmap(bits.toByteArray());
+        progress.setTotalSolved(bits.cardinality());
+        progress.setFarthestOrderIndex(bits.isEmpty() ? null : bits.length() - 1);
+        progress.setSolvedByCategory(solvedByCategory);
+        progress.setLastActivityAt(toOffsetDateTime(attemptEntryRepository.findLastActivityAt(list.getUserId(), list.getId())));
+        storeActivity(progress, ActivityDays.of(attemptEntryRepository.findActivityDays(list.getId())));
+        progress.setUpdatedAt(OffsetDateTime.now());
+        listProgressRepository.claim(list.getId(), list.getUserId(), list.getTemplateVersion(), new byte[0],
+                progress.getUpdatedAt());
+        ListProgressEntity saved = listProgressRepository.save(progress);
+        userProgressService.invalidate(list.getUserId(), list.getTemplateVersion());
+        return saved;
+    }
+
+    public static BitSet solvedBits(ListProgressEntity progress) {
+        return BitSet.valueOf(progress.getSolvedBitmap());
+    }
+
+    static ActivityDays activityDays(ListProgressEntity progress) {
+        return ActivityDays.of(progress.getActivityBaseDay(), progress.getActivityBitmap(),
+                progress.getActivityDayCount(), progress.getActivityRunCount());
+    }
+
+    private void storeActivity(ListProgressEntity progress, ActivityDays activity) {
+        progress.setActivityBaseDay(activity.baseDay());
+        progress.setActivityBitmap(activity.toByteArray());
+        progress.setActivityDayCount(activity.dayCount());
+        progress.setActivityRunCount(activity.runCount());
+    }
+
+    private OffsetDateTime toOffsetDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof OffsetDateTime odt) {
+            return odt;
+        }
+        if (value instanceof LocalDateTime ldt) {
+            return ldt.atOffset(ZoneOffset.UTC);
+        }
+        if (value instanceof Instant instant) {
+            return instant.atOffset(ZoneOffset.UTC);
+        }
+        return ((Timestamp) value).toInstant().atOffset(ZoneOffset.UTC);
+    }
+}
@@ -4,7 +4,9 @@ import com.codeclimb.backend.dto.ListDtos;
 import com.codeclimb.backend.entity.ListEntity;
 import com.codeclimb.backend.repository.ListRepository;
 import com.codeclimb.backend.repository.ProblemRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -15,18 +17,27 @@ public class ListService {
 
     private final ListRepository listRepository;
     private final ProblemRepository problemRepository;
+    private final ListProgressService listProgressService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IdGenerator idGenerator;
 
-    public ListService(ListRepository listRepository, ProblemRepository problemRepository) {
+    public ListService(ListRepository listRepository, ProblemRepository problemRepository,
+                       ListProgressService listProgressService, ApplicationEventPublisher eventPublisher,
+                       IdGenerator idGenerator) {
         this.listRepository = listRepository;
         this.problemRepository = problemRepository;
+        this.listProgressService = listProgressService;
+        this.eventPublisher = eventPublisher;
+        this.idGenerator = idGenerator;
     }
 
+    @Transactional
     public ListDtos.ListResponse create(UUID userId, ListDtos.CreateListRequest request) {
         if (!problemRepository.existsByTemplateVersion(request.templateVersion())) {
             throw new BadRequestException("Unknown template version");
         }
         ListEntity list = new ListEntity();
-        list.setId(UUID.randomUUID());
+        list.setId(idGenerator.next());
         list.setUserId(userId);
         list.setName(request.name());
         list.setTemplateVersion(request.templateVersion());
@@ -34,6 +45,8 @@ public class ListService {
         list.setCreatedAt(OffsetDateTime.now());
         list.setUpdatedAt(OffsetDateTime.now());
         ListEntity saved = listRepository.save(list);
+        listProgressService.initialize(saved);
+        eventPublisher.publishEvent(ProgressChangedEvent.list(userId, saved.getId()));
         return toDto(saved);
     }
 
@@ -41,18 +54,24 @@ public class ListService {
         return listRepository.findByUserIdOrderByUpdatedAtDesc(userId).stream().map(this::toDto).toList();
     }
 
+    @Transactional
     public ListDtos.ListResponse rename(UUID userId, UUID id, ListDtos.RenameListRequest request) {
         ListEntity list = listRepository.findByIdAndUserId(id, userId).orElseThrow(() -> new BadRequestException("List not found"));
         list.setName(request.name());
         list.setUpdatedAt(OffsetDateTime.now());
-        return toDto(listRepository.save(list));
+        ListEntity saved = listRepository.save(list);
+        eventPublisher.publishEvent(ProgressChangedEvent.list(userId, id));
+        return toDto(saved);
     }
 
+    @Transactional
     public ListDtos.ListResponse deprecate(UUID userId, UUID id) {
         ListEntity list = listRepository.findByIdAndUserId(id, userId).orElseThrow(() -> new BadRequestException("List not found"));
         list.setDeprecated(true);
         list.setUpdatedAt(OffsetDateTime.now());
-        return toDto(listRepository.save(list));
+        ListEntity saved = listRepository.save(list);
+        eventPublisher.publishEvent(ProgressChangedEvent.list(userId, id));
+        return toDto(saved);
     }
 
     private ListDtos.ListResponse toDto(ListEntity entity) {
@@ -0,0 +1,123 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.entity.ProblemEntity;
+import com.codeclimb.backend.repository.ProblemRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable in-memory copy of the {@code problems} table, one {@code order_index}-sorted snapshot per template
+ * version, loaded at startup. Problems only change through Flyway migrations; call {@link #refresh()} after
+ * changing them at runtime.
+ */
+@Component
+public class ProblemCatalog {
+
+    private final ProblemRepository problemRepository;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    public ProblemCatalog(ProblemRepository problemRepository) {
+        this.problemRepository = problemRepository;
+    }
+
+    public Template template(String templateVersion) {
+        return templates.computeIfAbsent(templateVersion,
+                version -> new Template(version, problemRepository.findByTemplateVersionOrderByOrderIndexAsc(version)));
+    }
+
+    /** The snapshot for a template version present in {@code problems}, without loading unknown versions. */
+    public Optional<Template> loaded(String templateVersion) {
+        return Optional.ofNullable(templates.get(templateVersion));
+    }
+
+    /** Reloads every template; each snapshot is swapped in whole, so readers never see a partial one. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        Set<String> versions = Set.copyOf(problemRepository.findTemplateVersions());
+        for (String version : versions) {
+            templates.put(version, new Template(version, problemRepository.findByTemplateVersionOrderByOrderIndexAsc(version)));
+        }
+        templates.keySet().retainAll(versions);
+    }
+
+    public record Problem(Integer neet250Id, Integer orderIndex, String title, String leetcodeSlug, String category,
+                          String difficulty) {}
+
+    public static final class Template {
+
+        private final String templateVersion;
+        private final Problem[] byOrderIndex;
+        private final Map<Integer, Problem> byNeetId;
+        private final List<Problem> problems;
+        private final Map<String, Integer> categoryTotals;
+
+        private Template(String templateVersion, List<ProblemEntity> entities) {
+            this.templateVersion = templateVersion;
+            List<Problem> ordered = new ArrayList<>(entities.size());
+            Map<Integer, Problem> neetIndex = new HashMap<>();
+            Map<String, Integer> totals = new TreeMap<>();
+            int maxOrderIndex = entities.isEmpty() ? 0 : entities.get(entities.size() - 1).getOrderIndex();
+            Problem[] orderIndex = new Problem[maxOrderIndex + 1];
+            for (ProblemEntity entity : entities) {
+                Problem problem = new Problem(entity.getNeet250Id(), entity.getOrderIndex(), entity.getTitle(),
+                        entity.getLeetcodeSlug(), entity.getCategory(), entity.getDifficulty().toString().trim());
+                ordered.add(problem);
+                neetIndex.put(problem.neet250Id(), problem);
+                orderIndex[problem.orderIndex()] = problem;
+                totals.merge(problem.category(), 1, Integer::sum);
+            }
+            this.byOrderIndex = orderIndex;
+            this.byNeetId = Map.copyOf(neetIndex);
+            this.problems = Collections.unmodifiableList(ordered);
+            this.categoryTotals = Collections.unmodifiableMap(totals);
+        }
+
+        public String templateVersion() {
+            return templateVersion;
+        }
+
+        public List<Problem> problems() {
+            return problems;
+        }
+
+        public Problem byNeetId(Integer neet250Id) {
+            return byNeetId.get(neet250Id);
+        }
+
+        public Problem byOrderIndex(int orderIndex) {
+            return orderIndex >= 0 && orderIndex < byOrderIndex.length ? byOrderIndex[orderIndex] : null;
+        }
+
+        public int maxOrderIndex() {
+            return byOrderIndex.length - 1;
+        }
+
+        /** Category name to number of problems in it, sorted by category. */
+        public Map<String, Integer> categoryTotals() {
+            return categoryTotals;
+        }
+
+        public BitSet toOrderIndexes(Iterable<Integer> neet250Ids) {
+            BitSet bits = new BitSet(byOrderIndex.length);
+            for (Integer neet250Id : neet250Ids) {
+                Problem problem = byNeetId.get(neet250Id);
+                if (problem != null) {
+                    bits.set(problem.orderIndex());
+                }
+            }
+            return bits;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.ProblemDtos;
+
+import java.util.Set;
+
+/**
+ * Which problem rows a listing returns: equality filters on the problem and its latest attempt, the direction of
+ * {@code order_index}, and a keyset page that starts after the {@code orderIndex} of the previous page's last row.
+ */
+public record ProblemFilter(String category, String difficulty, Boolean solved, String confidence, boolean descending,
+                            Integer after, Integer limit) {
+
+    public static final ProblemFilter NONE = new ProblemFilter(null, null, null, null, false, null, null);
+
+    static final int MAX_LIMIT = 500;
+
+    private static final Set<String> DIFFICULTIES = Set.of("E", "M", "H");
+    private static final Set<String> CONFIDENCES = Set.of("LOW", "MEDIUM", "HIGH");
+
+    public static ProblemFilter of(ProblemDtos.ProblemQuery query) {
+        String difficulty = query.difficulty();
+        String status = query.status();
+        String confidence = query.confidence();
+        String sort = query.sort();
+        Integer limit = query.limit();
+        if (difficulty != null && !DIFFICULTIES.contains(difficulty)) {
+            throw new BadRequestException("difficulty must be one of: E, M, H");
+        }
+        if (status != null && !"solved".equals(status) && !"unsolved".equals(status)) {
+            throw new BadRequestException("status must be one of: solved, unsolved");
+        }
+        if (confidence != null && !CONFIDENCES.contains(confidence)) {
+            throw new BadRequestException("confidence must be one of: LOW, MEDIUM, HIGH");
+        }
+        if (sort != null && !"order".equals(sort) && !"-order".equals(sort)) {
+            throw new BadRequestException("sort must be one of: order, -order");
+        }
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return new ProblemFilter(query.category(), difficulty, status == null ? null : "solved".equals(status), confidence,
+                "-order".equals(sort), query.after(), limit);
+    }
+
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+}
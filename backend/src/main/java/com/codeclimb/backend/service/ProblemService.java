@@ -1,70 +1,256 @@
 package com.codeclimb.backend.service;
 
 import com.codeclimb.backend.dto.ProblemDtos;
+import com.codeclimb.backend.entity.LatestAttemptEntity;
 import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.repository.AttemptEntryRepository;
+import com.codeclimb.backend.repository.LatestAttemptRepository;
 import com.codeclimb.backend.repository.ListRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
 import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Service
 public class ProblemService {
 
+    private static final String FULL_COLUMNS =
+            "ae.solved, ae.date_solved, ae.time_minutes, ae.attempts, ae.confidence, ae.time_complexity, ae.space_complexity, ae.notes, ae.problem_url, ae.updated_at";
+    private static final String COMPACT_COLUMNS =
+            "ae.solved, ae.date_solved, ae.time_minutes, ae.attempts, ae.confidence, ae.time_complexity, ae.space_complexity, octet_length(ae.notes) > 0, ae.updated_at";
+
     private final ListRepository listRepository;
+    private final AttemptEntryRepository attemptEntryRepository;
+    private final LatestAttemptRepository latestAttemptRepository;
+    private final ProblemCatalog problemCatalog;
     private final EntityManager entityManager;
+    private final JsonStreamer jsonStreamer;
 
-    public ProblemService(ListRepository listRepository, EntityManager entityManager) {
+    public ProblemService(ListRepository listRepository, AttemptEntryRepository attemptEntryRepository,
+                          LatestAttemptRepository latestAttemptRepository, ProblemCatalog problemCatalog,
+                          EntityManager entityManager, JsonStreamer jsonStreamer) {
         this.listRepository = listRepository;
+        this.attemptEntryRepository = attemptEntryRepository;
+        this.latestAttemptRepository = latestAttemptRepository;
+        this.problemCatalog = problemCatalog;
         this.entityManager = entityManager;
+        this.jsonStreamer = jsonStreamer;
+    }
+
+    /** The {@code latestAttempt} of one problem row, as {@link #writeWithLatestAttempt} would write it. */
+    public ProblemDtos.LatestAttempt latestAttempt(UUID userId, UUID listId, Integer neetId) {
+        return latestAttemptRepository.findById(new LatestAttemptEntity.Key(listId, neetId))
+                .filter(latest -> latest.getAttemptId() != null)
+                .flatMap(latest -> attemptEntryRepository.findByIdAndUserId(latest.getAttemptId(), userId))
+                .map(entry -> new ProblemDtos.LatestAttempt(entry.getSolved(), entry.getDateSolved(), entry.getTimeMinutes(),
+                        entry.getAttempts(), entry.getConfidence() == null ? null : entry.getConfidence().name(),
+                        entry.getTimeComplexity(), entry.getSpaceComplexity(), entry.getNotes(), entry.getProblemUrl(),
+                        entry.getUpdatedAt()))
+                .orElse(null);
+    }
+
+    /** Writes every problem row of the list as a JSON array, merging latest attempts into the catalog in problem order. */
+    public void writeWithLatestAttempt(UUID userId, UUID listId, ProblemFilter filter, StreamBody body) throws IOException {
+        writeRows(userId, listId, filter, FULL_COLUMNS, this::toLatestAttempt, ProblemService::toResponse, body);
     }
 
-    public List<ProblemDtos.ProblemWithLatestAttemptResponse> listWithLatestAttempt(UUID userId, UUID listId) {
+    /** Same rows without {@code notes} and {@code problemUrl}; the TEXT columns are not read, only whether notes exist. */
+    public void writeCompact(UUID userId, UUID listId, ProblemFilter filter, StreamBody body) throws IOException {
+        writeRows(userId, listId, filter, COMPACT_COLUMNS, this::toCompactAttempt, (problem, latestAttempt) ->
+                new ProblemDtos.CompactProblemResponse(problem.neet250Id(), problem.orderIndex(), problem.title(),
+                        problem.leetcodeSlug(), problem.category(), problem.difficulty(), latestAttempt), body);
+    }
+
+    public ProblemDtos.ProblemNotesResponse notes(UUID userId, UUID listId, Integer neetId) {
         ListEntity list = listRepository.findByIdAndUserId(listId, userId).orElseThrow(() -> new BadRequestException("List not found"));
-        List<?> rows = entityManager.createNativeQuery("""
-                with latest_per_problem as (
-                  select x.template_version, x.neet250_id, x.solved, x.date_solved, x.time_minutes, x.attempts, x.confidence, x.time_complexity, x.space_complexity, x.notes, x.problem_url, x.updated_at
-                  from (
-                    select l.template_version, ae.neet250_id, ae.solved, ae.date_solved, ae.time_minutes, ae.attempts, ae.confidence, ae.time_complexity, ae.space_complexity, ae.notes, ae.problem_url, ae.updated_at,
-                           row_number() over (partition by l.template_version, ae.neet250_id order by ae.updated_at desc) as rn
-                    from attempt_entries ae
-                    join lists l on l.id = ae.list_id
-                    where ae.user_id = :userId and ae.list_id = :listId and l.template_version = :templateVersion
-                  ) x
-                  where x.rn = 1
-                )
-                select p.neet250_id, p.order_index, p.title, p.leetcode_slug, p.category, p.difficulty,
-                       lpp.solved, lpp.date_solved, lpp.time_minutes, lpp.attempts, lpp.confidence, lpp.time_complexity, lpp.space_complexity, lpp.notes, lpp.problem_url, lpp.updated_at
+        if (problemCatalog.template(list.getTemplateVersion()).byNeetId(neetId) == null) {
+            throw new BadRequestException("Problem not found");
+        }
+        ProblemDtos.LatestAttempt latest = latestAttempt(userId, listId, neetId);
+        return new ProblemDtos.ProblemNotesResponse(neetId, latest == null ? null : latest.notes(),
+                latest == null ? null : latest.problemUrl());
+    }
+
+    /**
+     * Reads {@code columns} of the list's latest attempts in chunks ordered by {@code order_index} and walks the
+     * catalog alongside, so problems without an attempt are written in between.
+     */
+    private <A> void writeRows(UUID userId, UUID listId, ProblemFilter filter, String columns, Function<Object[], A> toAttempt,
+                               BiFunction<ProblemCatalog.Problem, A, ?> toRow, StreamBody body) throws IOException {
+        ListEntity list = listRepository.findByIdAndUserId(listId, userId).orElseThrow(() -> new BadRequestException("List not found"));
+        ProblemCatalog.Template template = problemCatalog.template(list.getTemplateVersion());
+        if (!filter.isEmpty()) {
+            writeFiltered(list, template, filter, columns, toAttempt, toRow, body);
+            return;
+        }
+        List<ProblemCatalog.Problem> problems = template.problems();
+        String sql = """
+                select la.neet250_id, %s, p.order_index
+                from latest_attempts la
+                join attempt_entries ae on ae.id = la.attempt_id
+                join problems p on p.template_version = :templateVersion and p.neet250_id = la.neet250_id
+                where la.list_id = :listId and p.order_index > :after
+                order by p.order_index
+                limit :limit
+                """.formatted(columns);
+        Function<OrderedRow, JsonStreamer.Chunk> chunkAfter = last -> new JsonStreamer.Chunk(sql, new MapSqlParameterSource()
+                .addValue("listId", listId)
+                .addValue("templateVersion", list.getTemplateVersion())
+                .addValue("after", last == null ? Integer.MIN_VALUE : last.orderIndex()));
+        try (JsonGenerator json = jsonStreamer.startArray(body)) {
+            int[] next = {0};
+            jsonStreamer.forEachChunk(Integer.MAX_VALUE, chunkAfter, ProblemService::ordered, ordered -> {
+                Object[] row = ordered.columns();
+                ProblemCatalog.Problem problem = template.byNeetId(((Number) row[0]).intValue());
+                if (problem == null) {
+                    return;
+                }
+                while (next[0] < problems.size() && problems.get(next[0]).orderIndex() <= problem.orderIndex()) {
+                    ProblemCatalog.Problem current = problems.get(next[0]++);
+                    json.writeObject(toRow.apply(current, current == problem ? toAttempt.apply(row) : null));
+                }
+            });
+            while (next[0] < problems.size()) {
+                json.writeObject(toRow.apply(problems.get(next[0]++), null));
+            }
+            json.writeEndArray();
+        }
+    }
+
+    /**
+     * Filters and pages in SQL, starting from the problems of the template so unattempted rows can match, and
+     * filtering on the solved and confidence copies kept on {@code latest_attempts}. The client's {@code after}
+     * starts the same {@code order_index} keyset that splits the read into chunks.
+     */
+    private <A> void writeFiltered(ListEntity list, ProblemCatalog.Template template, ProblemFilter filter, String columns,
+                                   Function<Object[], A> toAttempt, BiFunction<ProblemCatalog.Problem, A, ?> toRow,
+                                   StreamBody body) throws IOException {
+        StringBuilder sql = new StringBuilder("""
+                select p.neet250_id, %s, p.order_index
                 from problems p
-                left join latest_per_problem lpp on lpp.neet250_id = p.neet250_id and lpp.template_version = p.template_version
+                left join latest_attempts la on la.list_id = :listId and la.neet250_id = p.neet250_id
+                left join attempt_entries ae on ae.id = la.attempt_id
                 where p.template_version = :templateVersion
-                order by p.order_index asc
+                """.formatted(columns));
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("listId", list.getId())
+                .addValue("templateVersion", list.getTemplateVersion());
+        if (filter.category() != null) {
+            sql.append(" and p.category = :category");
+            params.addValue("category", filter.category());
+        }
+        if (filter.difficulty() != null) {
+            sql.append(" and p.difficulty = :difficulty");
+            params.addValue("difficulty", filter.difficulty());
+        }
+        if (filter.solved() != null) {
+            sql.append(filter.solved() ? " and la.solved = true" : " and (la.solved is null or la.solved = false)");
+        }
+        if (filter.confidence() != null) {
+            sql.append(" and la.confidence = :confidence");
+            params.addValue("confidence", filter.confidence());
+        }
+        sql.append(filter.descending()
+                ? " and p.order_index < :after order by p.order_index desc limit :limit"
+                : " and p.order_index > :after order by p.order_index limit :limit");
+        int start = filter.after() != null ? filter.after() : filter.descending() ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        Function<OrderedRow, JsonStreamer.Chunk> chunkAfter = last -> new JsonStreamer.Chunk(sql.toString(),
+                new MapSqlParameterSource(params.getValues()).addValue("after", last == null ? start : last.orderIndex()));
+        int maxRows = filter.limit() == null ? Integer.MAX_VALUE : filter.limit();
+        try (JsonGenerator json = jsonStreamer.startArray(body)) {
+            jsonStreamer.forEachChunk(maxRows, chunkAfter, ProblemService::ordered, ordered -> {
+                Object[] row = ordered.columns();
+                ProblemCatalog.Problem problem = template.byNeetId(((Number) row[0]).intValue());
+                if (problem != null) {
+                    json.writeObject(toRow.apply(problem, row[row.length - 1] == null ? null : toAttempt.apply(row)));
+                }
+            });
+            json.writeEndArray();
+        }
+    }
+
+    /** A listing row with the {@code order_index} selected last split off as the chunk keyset. */
+    private record OrderedRow(int orderIndex, Object[] columns) {}
+
+    private static OrderedRow ordered(ResultSet rs, int rowNum) throws SQLException {
+        Object[] row = new Object[rs.getMetaData().getColumnCount() - 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = rs.getObject(i + 1);
+        }
+        return new OrderedRow(rs.getInt(row.length + 1), row);
+    }
+
+    /**
+     * Rows whose latest attempt changed after list data version {@code since}, and the problems whose last attempt
+     * was deleted since then. The returned cursor is read before the rows, so a concurrent write is sent again
+     * rather than skipped.
+     */
+    public ProblemDtos.ProblemChangesResponse changesSince(UUID userId, UUID listId, long since) {
+        ListEntity list = listRepository.findByIdAndUserId(listId, userId).orElseThrow(() -> new BadRequestException("List not found"));
+        long cursor = list.getDataVersion();
+        List<?> rows = entityManager.createNativeQuery("""
+                select la.neet250_id, ae.solved, ae.date_solved, ae.time_minutes, ae.attempts, ae.confidence, ae.time_complexity, ae.space_complexity, ae.notes, ae.problem_url, ae.updated_at, la.attempt_id
+                from latest_attempts la
+                left join attempt_entries ae on ae.id = la.attempt_id
+                where la.list_id = :listId and la.version > :since
                 """)
-                .setParameter("userId", userId)
                 .setParameter("listId", listId)
-                .setParameter("templateVersion", list.getTemplateVersion())
+                .setParameter("since", since)
                 .getResultList();
-        List<ProblemDtos.ProblemWithLatestAttemptResponse> out = new ArrayList<>();
+        ProblemCatalog.Template template = problemCatalog.template(list.getTemplateVersion());
+        List<ProblemDtos.ProblemWithLatestAttemptResponse> changed = new ArrayList<>();
+        List<Integer> removed = new ArrayList<>();
         for (Object rowObj : rows) {
             Object[] row = (Object[]) rowObj;
-            ProblemDtos.LatestAttempt latestAttempt = row[6] == null && row[7] == null && row[8] == null
-                    && row[9] == null && row[10] == null && row[11] == null && row[12] == null
-                    && row[13] == null && row[14] == null && row[15] == null
-                    ? null
-                    : new ProblemDtos.LatestAttempt((Boolean) row[6], toLocalDate(row[7]), row[8] == null ? null : ((Number) row[8]).intValue(),
-                    row[9] == null ? null : ((Number) row[9]).intValue(), row[10] == null ? null : row[10].toString(),
-                    (String) row[11], (String) row[12], (String) row[13], (String) row[14], toOffsetDateTime(row[15]));
-            out.add(new ProblemDtos.ProblemWithLatestAttemptResponse(
-                    ((Number) row[0]).intValue(), ((Number) row[1]).intValue(), (String) row[2], (String) row[3], (String) row[4], row[5].toString().trim(), latestAttempt));
-        }
-        return out;
+            ProblemCatalog.Problem problem = template.byNeetId(((Number) row[0]).intValue());
+            if (problem == null) {
+                continue;
+            }
+            if (row[11] == null) {
+                removed.add(problem.neet250Id());
+            } else {
+                changed.add(toResponse(problem, toLatestAttempt(row)));
+            }
+        }
+        changed.sort(Comparator.comparing(ProblemDtos.ProblemWithLatestAttemptResponse::orderIndex));
+        removed.sort(Comparator.naturalOrder());
+        return new ProblemDtos.ProblemChangesResponse(cursor, changed, removed);
+    }
+
+    private static ProblemDtos.ProblemWithLatestAttemptResponse toResponse(ProblemCatalog.Problem problem,
+                                                                            ProblemDtos.LatestAttempt latestAttempt) {
+        return new ProblemDtos.ProblemWithLatestAttemptResponse(problem.neet250Id(), problem.orderIndex(), problem.title(),
+                problem.leetcodeSlug(), problem.category(), problem.difficulty(), latestAttempt);
+    }
+
+    /** Maps columns 1-10 of a latest-attempt row; column 0 is the problem id. */
+    private ProblemDtos.LatestAttempt toLatestAttempt(Object[] row) {
+        return new ProblemDtos.LatestAttempt((Boolean) row[1], toLocalDate(row[2]),
+                row[3] == null ? null : ((Number) row[3]).intValue(), row[4] == null ? null : ((Number) row[4]).intValue(),
+                row[5] == null ? null : row[5].toString(), (String) row[6], (String) row[7], (String) row[8], (String) row[9],
+                toOffsetDateTime(row[10]));
+    }
+
+    private ProblemDtos.CompactLatestAttempt toCompactAttempt(Object[] row) {
+        return new ProblemDtos.CompactLatestAttempt((Boolean) row[1], toLocalDate(row[2]),
+                row[3] == null ? null : ((Number) row[3]).intValue(), row[4] == null ? null : ((Number) row[4]).intValue(),
+                row[5] == null ? null : row[5].toString(), (String) row[6], (String) row[7], Boolean.TRUE.equals(row[8]),
+                toOffsetDateTime(row[9]));
     }
 
     private LocalDate toLocalDate(Object value) {
@@ -0,0 +1,19 @@
+package com.codeclimb.backend.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published when a user's attempt or list data changes. {@code neet250Ids} are the problems whose rows changed, empty
+ * for list-level changes.
+ */
+public record ProgressChangedEvent(UUID userId, UUID listId, Set<Integer> neet250Ids) {
+
+    static ProgressChangedEvent problem(UUID userId, UUID listId, Integer neet250Id) {
+        return new ProgressChangedEvent(userId, listId, Set.of(neet250Id));
+    }
+
+    static ProgressChangedEvent list(UUID userId, UUID listId) {
+        return new ProgressChangedEvent(userId, listId, Set.of());
+    }
+}
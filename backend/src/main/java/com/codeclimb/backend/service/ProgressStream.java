@@ -0,0 +1,212 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.dto.DashboardDtos;
+import com.codeclimb.backend.dto.EventDtos;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * Pushes problem-row and dashboard deltas to a user's open {@code /events} streams after each committed change.
+ * Idle streams hold no thread: emitters sit in a registry, one scheduler thread only sends heartbeats, and deltas are
+ * read and sent on a bounded worker pool, one user at a time, so a slow client or query holds up that user alone.
+ * Dashboard deltas are computed against the last dashboard pushed to the user, so only changed fields are sent.
+ */
+@Component
+public class ProgressStream {
+
+    private final DashboardCache dashboardCache;
+    private final ProblemService problemService;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int maxPerUser;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final ThreadPoolTaskExecutor workers;
+    private final Map<UUID, Subscribers> subscribers = new ConcurrentHashMap<>();
+
+    public ProgressStream(DashboardCache dashboardCache,
+                          ProblemService problemService,
+                          ObjectMapper objectMapper,
+                          @Value("${app.events.timeout:30m}") Duration timeout,
+                          @Value("${app.events.heartbeat:25s}") Duration heartbeat,
+                          @Value("${app.events.max-per-user:5}") int maxPerUser,
+                          @Value("${app.events.workers:4}") int workers,
+                          @Value("${app.events.queue-capacity:1000}") int queueCapacity) {
+        this.dashboardCache = dashboardCache;
+        this.problemService = problemService;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.maxPerUser = maxPerUser;
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(1);
+        this.scheduler.setThreadNamePrefix("progress-stream-");
+        this.scheduler.initialize();
+        this.scheduler.scheduleAtFixedRate(this::heartbeat, heartbeat);
+        this.workers = new ThreadPoolTaskExecutor();
+        this.workers.setCorePoolSize(workers);
+        this.workers.setMaxPoolSize(workers);
+        this.workers.setQueueCapacity(queueCapacity);
+        this.workers.setThreadNamePrefix("progress-push-");
+        this.workers.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.workers.initialize();
+    }
+
+    public SseEmitter subscribe(UUID userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscribers userSubscribers = subscribers.compute(userId, (id, existing) -> {
+            Subscribers current = existing == null ? new Subscribers() : existing;
+            current.emitters.addLast(emitter);
+            return current;
+        });
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(error -> remove(userId, emitter));
+        while (userSubscribers.emitters.size() > maxPerUser) {
+            SseEmitter oldest = userSubscribers.emitters.pollFirst();
+            if (oldest != null) {
+                oldest.complete();
+            }
+        }
+        seed(userId, userSubscribers);
+        return emitter;
+    }
+
+    /** Runs after {@link DashboardCache} has evicted, so the deltas are read from fresh dashboards. */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgressChanged(ProgressChangedEvent event) {
+        if (subscribers.containsKey(event.userId())) {
+            workers.execute(() -> push(event));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.emitters.forEach(SseEmitter::complete));
+        scheduler.shutdown();
+        workers.shutdown();
+    }
+
+    private void push(ProgressChangedEvent event) {
+        Subscribers userSubscribers = subscribers.get(event.userId());
+        if (userSubscribers == null) {
+            return;
+        }
+        synchronized (userSubscribers) {
+            pushTo(userSubscribers, event);
+        }
+    }
+
+    private void pushTo(Subscribers userSubscribers, ProgressChangedEvent event) {
+        for (Integer neetId : event.neet250Ids()) {
+            EventDtos.ProblemRowChanged row = new EventDtos.ProblemRowChanged(event.listId(), neetId,
+                    problemService.latestAttempt(event.userId(), event.listId(), neetId));
+            send(event.userId(), userSubscribers, () -> SseEmitter.event().name("problem").data(row));
+        }
+        List<DashboardDtos.ScopeRequest> scopes = List.of(
+                new DashboardDtos.ScopeRequest(DashboardScope.LATEST.value, null),
+                new DashboardDtos.ScopeRequest(DashboardScope.ALL.value, null),
+                new DashboardDtos.ScopeRequest(DashboardScope.LIST.value, event.listId()));
+        for (DashboardDtos.ScopeRequest scope : scopes) {
+            DashboardDtos.DashboardResponse dashboard;
+            try {
+                dashboard = dashboardCache.get(event.userId(), scope.scope(), scope.listId());
+            } catch (BadRequestException listGone) {
+                continue;
+            }
+            EventDtos.DashboardChanged delta = diff(scope, userSubscribers.dashboards.put(scope, dashboard), dashboard);
+            if (delta != null) {
+                send(event.userId(), userSubscribers, () -> SseEmitter.event().name("dashboard").data(delta));
+            }
+        }
+    }
+
+    /**
+     * Records the current dashboards before the stream is returned, so the first delta a client receives is
+     * relative to the state at subscription; clients should (re)load dashboards after connecting.
+     */
+    private void seed(UUID userId, Subscribers userSubscribers) {
+        DashboardDtos.ScopeRequest latest = new DashboardDtos.ScopeRequest(DashboardScope.LATEST.value, null);
+        DashboardDtos.ScopeRequest all = new DashboardDtos.ScopeRequest(DashboardScope.ALL.value, null);
+        if (!userSubscribers.dashboards.containsKey(latest)) {
+            DashboardDtos.DashboardResponse latestDashboard = dashboardCache.get(userId, latest.scope(), null);
+            userSubscribers.dashboards.put(latest, latestDashboard);
+            if (latestDashboard.latestListId() != null) {
+                DashboardDtos.ScopeRequest list = new DashboardDtos.ScopeRequest(DashboardScope.LIST.value, latestDashboard.latestListId());
+                userSubscribers.dashboards.put(list, dashboardCache.get(userId, list.scope(), list.listId()));
+            }
+        }
+        userSubscribers.dashboards.computeIfAbsent(all, scope -> dashboardCache.get(userId, scope.scope(), null));
+    }
+
+    private EventDtos.DashboardChanged diff(DashboardDtos.ScopeRequest scope,
+                                            DashboardDtos.DashboardResponse previous,
+                                            DashboardDtos.DashboardResponse current) {
+        JsonNode before = previous == null ? objectMapper.createObjectNode() : objectMapper.valueToTree(previous);
+        JsonNode after = objectMapper.valueToTree(current);
+        Map<String, JsonNode> changes = new LinkedHashMap<>();
+        after.fieldNames().forEachRemaining(field -> {
+            if (!field.equals("activityDays") && !field.equals("activityRanges") && !after.get(field).equals(before.get(field))) {
+                changes.put(field, after.get(field));
+            }
+        });
+        Set<String> previousDays = previous == null ? Set.of() : new LinkedHashSet<>(previous.activityDays());
+        Set<String> currentDays = new LinkedHashSet<>(current.activityDays());
+        List<String> added = current.activityDays().stream().filter(day -> !previousDays.contains(day)).toList();
+        List<String> removed = previousDays.stream().filter(day -> !currentDays.contains(day)).toList();
+        if (changes.isEmpty() && added.isEmpty() && removed.isEmpty()) {
+            return null;
+        }
+        return new EventDtos.DashboardChanged(scope.scope(), scope.listId(), changes, added, removed);
+    }
+
+    private void heartbeat() {
+        subscribers.forEach((userId, userSubscribers) ->
+                send(userId, userSubscribers, () -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    private void send(UUID userId, Subscribers userSubscribers, Supplier<SseEmitter.SseEventBuilder> event) {
+        for (SseEmitter emitter : new ArrayList<>(userSubscribers.emitters)) {
+            try {
+                emitter.send(event.get());
+            } catch (IOException | IllegalStateException closed) {
+                remove(userId, emitter);
+            }
+        }
+    }
+
+    private void remove(UUID userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(userId, (id, userSubscribers) -> {
+            userSubscribers.emitters.remove(emitter);
+            return userSubscribers.emitters.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private static final class Subscribers {
+        private final Deque<SseEmitter> emitters = new ConcurrentLinkedDeque<>();
+        private final Map<DashboardDtos.ScopeRequest, DashboardDtos.DashboardResponse> dashboards = new ConcurrentHashMap<>();
+    }
+}
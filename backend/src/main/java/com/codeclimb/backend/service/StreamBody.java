@@ -0,0 +1,6 @@
+package com.codeclimb.backend.service;
+
+import java.io.OutputStream;
+
+/** The response stream a streamed listing is written to, and whether the client negotiated Smile instead of JSON. */
+public record StreamBody(OutputStream out, boolean smile) {}
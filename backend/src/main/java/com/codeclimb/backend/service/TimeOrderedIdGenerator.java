@@ -0,0 +1,46 @@
+package com.codeclimb.backend.service;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.UUID;
+
+/**
+ * UUIDv7 (RFC 9562): 48 bits of Unix milliseconds, then a 12-bit counter and 62 random bits. New keys land at the
+ * right edge of a B-tree index instead of on a random page. The counter starts at a random value each millisecond
+ * and keeps ids from one instance increasing; when it runs out the timestamp is advanced by one.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int SEQUENCE_MASK = 0xFFF;
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+    private long lastMillis = -1;
+    private int sequence;
+
+    public TimeOrderedIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID next() {
+        long millis;
+        int counter;
+        synchronized (this) {
+            millis = Math.max(clock.millis(), lastMillis);
+            if (millis == lastMillis) {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) {
+                    millis++;
+                }
+            } else {
+                sequence = random.nextInt(SEQUENCE_MASK / 2);
+            }
+            lastMillis = millis;
+            counter = sequence;
+        }
+        long mostSignificant = (millis << 16) | 0x7000L | counter;
+        long leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
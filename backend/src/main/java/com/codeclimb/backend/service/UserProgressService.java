@@ -0,0 +1,138 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.entity.ListProgressEntity;
+import com.codeclimb.backend.entity.UserProgressEntity;
+import com.codeclimb.backend.repository.ListProgressRepository;
+import com.codeclimb.backend.repository.UserProgressRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Maintains the per-(user, template) union of list progress read by {@code scope=all}. Changes are applied
+ * bit by bit from the user's {@code list_progress} rows, so neither writes nor reads touch {@code attempt_entries}.
+ * A missing rollup row is rebuilt from the list rows on first read, or by the first list change that finds it missing.
+ */
+@Service
+public class UserProgressService {
+
+    private final UserProgressRepository userProgressRepository;
+    private final ListProgressRepository listProgressRepository;
+    private final ProblemCatalog problemCatalog;
+
+    public UserProgressService(UserProgressRepository userProgressRepository,
+                               ListProgressRepository listProgressRepository,
+                               ProblemCatalog problemCatalog) {
+        this.userProgressRepository = userProgressRepository;
+        this.listProgressRepository = listProgressRepository;
+        this.problemCatalog = problemCatalog;
+    }
+
+    public List<UserProgressEntity> findAll(UUID userId) {
+        return userProgressRepository.findByUserId(userId);
+    }
+
+    /**
+     * Re-evaluates one problem and the given days in the rollup after {@code changed} was updated. A union bit
+     * stays set while any list of the same template still has it.
+     */
+    @Transactional
+    public void recordListChange(ListProgressEntity changed, int orderIndex, String category, LocalDate... activityDays) {
+        UserProgressEntity rollup = userProgressRepository.findForUpdate(changed.getUserId(), changed.getTemplateVersion())
+                .orElse(null);
+        if (rollup == null) {
+            rebuild(changed.getUserId(), changed.getTemplateVersion());
+            return;
+        }
+        List<ListProgressEntity> lists = listProgressRepository.findByUserIdAndTemplateVersion(
+                changed.getUserId(), changed.getTemplateVersion());
+
+        boolean solved = lists.stream().anyMatch(list -> ListProgressService.solvedBits(list).get(orderIndex));
+        BitSet bits = BitSet.valueOf(rollup.getSolvedBitmap());
+        if (bits.get(orderIndex) != solved) {
+            bits.set(orderIndex, solved);
+            int delta = solved ? 1 : -1;
+            rollup.setSolvedBitmap(bits.toByteArray());
+            rollup.setTotalSolved(rollup.getTotalSolved() + delta);
+            rollup.getSolvedByCategory().merge(category, delta, Integer::sum);
+            rollup.getSolvedByCategory().remove(category, 0);
+        }
+
+        ActivityDays activity = activityDays(rollup);
+        for (LocalDate day : activityDays) {
+            if (day != null) {
+                activity.set(day, lists.stream().anyMatch(list -> ListProgressService.activityDays(list).contains(day)));
+            }
+        }
+        storeActivity(rollup, activity);
+        rollup.setLastActivityAt(lists.stream()
+                .map(ListProgressEntity::getLastActivityAt)
+                .filter(Objects::nonNull)
+                .max(OffsetDateTime::compareTo)
+                .orElse(null));
+        rollup.setUpdatedAt(OffsetDateTime.now());
+        userProgressRepository.save(rollup);
+    }
+
+    /** Drops the rollup so the next read rebuilds it; used when a list row was itself rebuilt from history. */
+    public void invalidate(UUID userId, String templateVersion) {
+        userProgressRepository.deleteByUserIdAndTemplateVersion(userId, templateVersion);
+    }
+
+    /**
+     * Builds the rollup from the user's list rows, which must all exist and carry activity already. The rollup row is
+     * claimed and locked before the list rows are read, so a list change committed meanwhile either waits for this
+     * rebuild and then applies itself to the saved row, or is already visible to the read.
+     */
+    @Transactional
+    public UserProgressEntity rebuild(UUID userId, String templateVersion) {
+        userProgressRepository.claim(UUID.randomUUID(), userId, templateVersion, new byte[0], OffsetDateTime.now());
+        UserProgressEntity rollup = userProgressRepository.findForUpdate(userId, templateVersion).orElseThrow();
+        BitSet bits = new BitSet();
+        ActivityDays activity = ActivityDays.empty();
+        OffsetDateTime lastActivityAt = null;
+        for (ListProgressEntity list : listProgressRepository.findByUserIdAndTemplateVersion(userId, templateVersion)) {
+            bits.or(ListProgressService.solvedBits(list));
+            activity.or(ListProgressService.activityDays(list));
+            if (list.getLastActivityAt() != null && (lastActivityAt == null || list.getLastActivityAt().isAfter(lastActivityAt))) {
+                lastActivityAt = list.getLastActivityAt();
+            }
+        }
+        ProblemCatalog.Template template = problemCatalog.template(templateVersion);
+        Map<String, Integer> solvedByCategory = new HashMap<>();
+        for (int orderIndex = bits.nextSetBit(0); orderIndex >= 0; orderIndex = bits.nextSetBit(orderIndex + 1)) {
+            ProblemCatalog.Problem problem = template.byOrderIndex(orderIndex);
+            if (problem != null) {
+                solvedByCategory.merge(problem.category(), 1, Integer::sum);
+            }
+        }
+        rollup.setSolvedBitmap(bits.toByteArray());
+        rollup.setTotalSolved(bits.cardinality());
+        rollup.getSolvedByCategory().clear();
+        rollup.getSolvedByCategory().putAll(solvedByCategory);
+        rollup.setLastActivityAt(lastActivityAt);
+        storeActivity(rollup, activity);
+        rollup.setUpdatedAt(OffsetDateTime.now());
+        return userProgressRepository.save(rollup);
+    }
+
+    static ActivityDays activityDays(UserProgressEntity rollup) {
+        return ActivityDays.of(rollup.getActivityBaseDay(), rollup.getActivityBitmap(),
+                rollup.getActivityDayCount(), rollup.getActivityRunCount());
+    }
+
+    private void storeActivity(UserProgressEntity rollup, ActivityDays activity) {
+        rollup.setActivityBaseDay(activity.baseDay());
+        rollup.setActivityBitmap(activity.toByteArray());
+        rollup.setActivityDayCount(activity.dayCount());
+        rollup.setActivityRunCount(activity.runCount());
+    }
+}
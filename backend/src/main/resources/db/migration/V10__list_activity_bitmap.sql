@@ -0,0 +1,6 @@
+-- activity_bitmap stays null until the row's attempt days are first rebuilt from history.
+ALTER TABLE list_progress
+    ADD COLUMN activity_base_day INTEGER,
+    ADD COLUMN activity_bitmap BYTEA,
+    ADD COLUMN activity_day_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN activity_run_count INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,21 @@
+CREATE TABLE user_progress (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    template_version VARCHAR(50) NOT NULL,
+    solved_bitmap BYTEA NOT NULL,
+    total_solved INTEGER NOT NULL DEFAULT 0,
+    last_activity_at TIMESTAMPTZ,
+    activity_base_day INTEGER,
+    activity_bitmap BYTEA NOT NULL,
+    activity_day_count INTEGER NOT NULL DEFAULT 0,
+    activity_run_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT uq_user_progress_user_template UNIQUE (user_id, template_version)
+);
+
+CREATE TABLE user_progress_categories (
+    user_progress_id UUID NOT NULL REFERENCES user_progress(id) ON DELETE CASCADE,
+    category VARCHAR(100) NOT NULL,
+    solved_count INTEGER NOT NULL,
+    PRIMARY KEY (user_progress_id, category)
+);
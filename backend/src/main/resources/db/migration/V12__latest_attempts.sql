@@ -0,0 +1,11 @@
+CREATE TABLE latest_attempts (
+    list_id UUID NOT NULL REFERENCES lists(id) ON DELETE CASCADE,
+    neet250_id INTEGER NOT NULL,
+    attempt_id UUID NOT NULL REFERENCES attempt_entries(id) ON DELETE CASCADE,
+    PRIMARY KEY (list_id, neet250_id)
+);
+
+INSERT INTO latest_attempts (list_id, neet250_id, attempt_id)
+SELECT DISTINCT ON (ae.list_id, ae.neet250_id) ae.list_id, ae.neet250_id, ae.id
+FROM attempt_entries ae
+ORDER BY ae.list_id, ae.neet250_id, ae.updated_at DESC;
@@ -0,0 +1,4 @@
+ALTER TABLE latest_attempts ALTER COLUMN attempt_id DROP NOT NULL;
+ALTER TABLE latest_attempts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_latest_attempts_list_version ON latest_attempts (list_id, version);
@@ -0,0 +1,12 @@
+ALTER TABLE latest_attempts ADD COLUMN solved BOOLEAN;
+ALTER TABLE latest_attempts ADD COLUMN confidence VARCHAR(16);
+
+UPDATE latest_attempts la
+SET solved = ae.solved,
+    confidence = ae.confidence
+FROM attempt_entries ae
+WHERE ae.id = la.attempt_id;
+
+CREATE INDEX idx_problems_template_category_order ON problems (template_version, category, order_index);
+CREATE INDEX idx_latest_attempts_list_solved ON latest_attempts (list_id, solved);
+CREATE INDEX idx_latest_attempts_list_confidence ON latest_attempts (list_id, confidence);
@@ -0,0 +1,7 @@
+ALTER TABLE attempt_entries
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(notes, '')), 'A')
+            || setweight(to_tsvector('english', coalesce(time_complexity, '') || ' ' || coalesce(space_complexity, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_attempt_search_vector ON attempt_entries USING GIN (search_vector);
@@ -0,0 +1,3 @@
+ALTER TABLE attempt_entries ADD COLUMN draft_id VARCHAR(64);
+
+ALTER TABLE attempt_entries ADD CONSTRAINT uq_attempt_entries_user_draft UNIQUE (user_id, draft_id);
@@ -0,0 +1,19 @@
+CREATE TABLE list_progress (
+    list_id UUID PRIMARY KEY REFERENCES lists(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    template_version VARCHAR(50) NOT NULL,
+    solved_bitmap BYTEA NOT NULL,
+    total_solved INTEGER NOT NULL DEFAULT 0,
+    farthest_order_index INTEGER,
+    last_activity_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_list_progress_user ON list_progress (user_id);
+
+CREATE TABLE list_progress_categories (
+    list_id UUID NOT NULL REFERENCES list_progress(list_id) ON DELETE CASCADE,
+    category VARCHAR(100) NOT NULL,
+    solved_count INTEGER NOT NULL,
+    PRIMARY KEY (list_id, category)
+);
@@ -0,0 +1,5 @@
+ALTER TABLE users
+    ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE lists
+    ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
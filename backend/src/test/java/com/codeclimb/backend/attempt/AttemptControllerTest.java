@@ -7,6 +7,7 @@ import com.codeclimb.backend.repository.ListRepository;
 import com.codeclimb.backend.repository.ProblemRepository;
 import com.codeclimb.backend.repository.UserRepository;
 import com.codeclimb.backend.security.JwtService;
+import com.codeclimb.backend.service.ProblemCatalog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,10 +18,17 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,7 +38,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         "spring.datasource.password=",
         "spring.datasource.driver-class-name=org.h2.Driver",
         "spring.jpa.hibernate.ddl-auto=create-drop",
-        "spring.flyway.enabled=false"
+        "spring.flyway.enabled=false",
+        "app.streaming.chunk-size=2"
 })
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -41,6 +50,7 @@ class AttemptControllerTest {
     @Autowired private UserRepository userRepository;
     @Autowired private ListRepository listRepository;
     @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
     @Autowired private PasswordEncoder passwordEncoder;
     @Autowired private JwtService jwtService;
 
@@ -74,10 +84,32 @@ class AttemptControllerTest {
         problem.setDifficulty('E');
         problem.setOrderIndex(1);
         problemRepository.save(problem);
+        problemCatalog.refresh();
 
         token = jwtService.generateToken(user.getId(), user.getEmail());
     }
 
+    @Test
+    void rejectsDatesSolvedOutsideTheWindow() throws Exception {
+        for (LocalDate dateSolved : new LocalDate[] {LocalDate.of(1, 1, 1), LocalDate.of(1999, 12, 31), LocalDate.now().plusDays(3)}) {
+            String body = objectMapper.writeValueAsString(new AttemptPayload(true, dateSolved, null, null, null, null, null, null, null));
+            mockMvc.perform(post("/lists/" + listId + "/problems/1/attempts")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("dateSolved must be between 2000-01-01 and tomorrow"));
+        }
+        String batch = "{\"items\":[{\"neet250Id\":1,\"attempt\":{\"solved\":true,\"dateSolved\":\"9999-12-31\"}}]}";
+        mockMvc.perform(post("/lists/" + listId + "/attempts:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(0))
+                .andExpect(jsonPath("$.results[0].error").value("dateSolved must be between 2000-01-01 and tomorrow"));
+    }
+
     @Test
     void rejectsEmptyAttemptPayload() throws Exception {
         String body = objectMapper.writeValueAsString(new AttemptPayload(null, null, null, null, null, null, null, "", " "));
@@ -104,6 +136,34 @@ class AttemptControllerTest {
                 .andExpect(jsonPath("$.problemUrl").value("https://example.com/problem"));
     }
 
+    @Test
+    void createRejectsUnknownProblemsAndListsOfOtherUsers() throws Exception {
+        UserEntity other = new UserEntity();
+        other.setEmail("other@example.com");
+        other.setPasswordHash(passwordEncoder.encode("password123"));
+        other = userRepository.save(other);
+        ListEntity otherList = new ListEntity();
+        otherList.setName("Theirs");
+        otherList.setTemplateVersion("neet250.v1");
+        otherList.setUserId(other.getId());
+        java.util.UUID otherListId = listRepository.save(otherList).getId();
+
+        String body = "{\"solved\": true}";
+        for (String[] target : new String[][] {
+                {listId + "/problems/999", "Problem not found"},
+                {otherListId + "/problems/1", "List not found"},
+                {java.util.UUID.randomUUID() + "/problems/1", "List not found"}}) {
+            mockMvc.perform(post("/lists/" + target[0] + "/attempts")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value(target[1]));
+        }
+        mockMvc.perform(get("/lists/" + listId + "/problems/1/attempts").header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
     @Test
     void createAttemptRequiresJwt() throws Exception {
         String body = objectMapper.writeValueAsString(new AttemptPayload(true, null, null, null, null, null, null, null, null));
@@ -113,6 +173,303 @@ class AttemptControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void problemRowShowsLatestAttemptAcrossUpdatesAndDeletes() throws Exception {
+        String first = createNotesAttempt("first");
+        String second = createNotesAttempt("second");
+        expectLatestNotes("second");
+
+        mockMvc.perform(patch("/attempts/" + first)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AttemptPayload(null, null, null, null, null, null, null, "first edited", null))))
+                .andExpect(status().isOk());
+        expectLatestNotes("first edited");
+
+        mockMvc.perform(delete("/attempts/" + first).header("Authorization", "Bearer " + token))
+                .andExpect(status().is2xxSuccessful());
+        expectLatestNotes("second");
+
+        mockMvc.perform(delete("/attempts/" + second).header("Authorization", "Bearer " + token))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(get("/lists/" + listId + "/problems").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].latestAttempt").doesNotExist());
+    }
+
+    @Test
+    void problemChangesSinceCursorListEditedRowsAndTombstones() throws Exception {
+        ProblemEntity problem = new ProblemEntity();
+        problem.setNeet250Id(2);
+        problem.setTemplateVersion("neet250.v1");
+        problem.setTitle("Valid Anagram");
+        problem.setLeetcodeSlug("valid-anagram");
+        problem.setCategory("Arrays");
+        problem.setDifficulty('E');
+        problem.setOrderIndex(2);
+        problemRepository.save(problem);
+        problemCatalog.refresh();
+
+        String start = mockMvc.perform(get("/lists/" + listId + "/problems").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Cursor"))
+                .andReturn().getResponse().getHeader("X-Cursor");
+        String first = createNotesAttempt("first");
+
+        String afterCreate = getChanges(start)
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].neet250Id").value(1))
+                .andExpect(jsonPath("$.changed[0].latestAttempt.notes").value("first"))
+                .andExpect(jsonPath("$.removed").isEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(afterCreate).get("cursor").asText();
+        getChanges(cursor)
+                .andExpect(jsonPath("$.cursor").value(Long.parseLong(cursor)))
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.removed").isEmpty());
+
+        createNotesAttempt(2, "second problem");
+        mockMvc.perform(delete("/attempts/" + first).header("Authorization", "Bearer " + token))
+                .andExpect(status().is2xxSuccessful());
+        getChanges(cursor)
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].neet250Id").value(2))
+                .andExpect(jsonPath("$.removed[0]").value(1));
+        mockMvc.perform(get("/lists/" + listId + "/problems").header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$[0].latestAttempt").doesNotExist())
+                .andExpect(jsonPath("$[1].latestAttempt.notes").value("second problem"));
+    }
+
+    @Test
+    void historyAndListingAreStreamedInOrder() throws Exception {
+        ProblemEntity problem = new ProblemEntity();
+        problem.setNeet250Id(2);
+        problem.setTemplateVersion("neet250.v1");
+        problem.setTitle("Valid Anagram");
+        problem.setLeetcodeSlug("valid-anagram");
+        problem.setCategory("Arrays");
+        problem.setDifficulty('E');
+        problem.setOrderIndex(0);
+        problemRepository.save(problem);
+        problemCatalog.refresh();
+
+        createNotesAttempt("oldest");
+        createNotesAttempt("older");
+        createNotesAttempt("newer");
+
+        mockMvc.perform(get("/lists/" + listId + "/problems/1/attempts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].notes").value("newer"))
+                .andExpect(jsonPath("$[0].listId").value(listId.toString()))
+                .andExpect(jsonPath("$[1].notes").value("older"))
+                .andExpect(jsonPath("$[2].notes").value("oldest"));
+        mockMvc.perform(get("/lists/" + listId + "/problems").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].neet250Id").value(2))
+                .andExpect(jsonPath("$[0].latestAttempt").doesNotExist())
+                .andExpect(jsonPath("$[1].neet250Id").value(1))
+                .andExpect(jsonPath("$[1].latestAttempt.notes").value("newer"));
+        mockMvc.perform(get("/lists/" + java.util.UUID.randomUUID() + "/problems/1/attempts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void historyPagesFollowTheNextCursor() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            createNotesAttempt("attempt " + i);
+        }
+
+        java.util.List<String> notes = new java.util.ArrayList<>();
+        String query = "limit=2&count=true";
+        int pages = 0;
+        while (query != null) {
+            MvcResult page = mockMvc.perform(get("/lists/" + listId + "/problems/1/attempts?" + query)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            if (pages++ == 0) {
+                assertThat(page.getResponse().getHeader("X-Total-Count")).isEqualTo("5");
+            } else {
+                assertThat(page.getResponse().getHeader("X-Total-Count")).isNull();
+            }
+            objectMapper.readTree(page.getResponse().getContentAsString()).forEach(row -> notes.add(row.get("notes").asText()));
+            String next = page.getResponse().getHeader("X-Next-Cursor");
+            query = next == null ? null : "limit=2&cursor=" + next;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(notes).containsExactly("attempt 5", "attempt 4", "attempt 3", "attempt 2", "attempt 1");
+        for (String invalid : new String[] {"limit=0", "limit=101", "limit=2&cursor=bm90LWEtY3Vyc29y"}) {
+            mockMvc.perform(get("/lists/" + listId + "/problems/1/attempts?" + invalid).header("Authorization", "Bearer " + token))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void compactListingLeavesNotesToTheNotesEndpoint() throws Exception {
+        String notes = "Sliding window over a hash map.";
+        mockMvc.perform(post("/lists/" + listId + "/problems/1/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AttemptPayload(true, null, null, null, null, null, null, notes, "https://example.com/1"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/lists/" + listId + "/problems").param("compact", "true").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Cursor"))
+                .andExpect(jsonPath("$[0].title").value("Two Sum"))
+                .andExpect(jsonPath("$[0].latestAttempt.solved").value(true))
+                .andExpect(jsonPath("$[0].latestAttempt.hasNotes").value(true))
+                .andExpect(jsonPath("$[0].latestAttempt.notes").doesNotExist())
+                .andExpect(jsonPath("$[0].latestAttempt.problemUrl").doesNotExist());
+
+        mockMvc.perform(get("/lists/" + listId + "/problems/1/notes").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.neet250Id").value(1))
+                .andExpect(jsonPath("$.notes").value(notes))
+                .andExpect(jsonPath("$.problemUrl").value("https://example.com/1"));
+        mockMvc.perform(get("/lists/" + listId + "/problems/999/notes").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchRejectsInvalidQueriesBeforeSearching() throws Exception {
+        for (String query : new String[] {"q=", "q=" + "a".repeat(201), "q=map&limit=0", "q=map&limit=51", "q=map&offset=-1"}) {
+            mockMvc.perform(get("/lists/" + listId + "/attempts/search?" + query).header("Authorization", "Bearer " + token))
+                    .andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(get("/lists/" + java.util.UUID.randomUUID() + "/attempts/search?q=map").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/lists/" + listId + "/attempts/search?q=map"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void autosavesWithTheSameKeyCollapseIntoOneAttempt() throws Exception {
+        String first = saveDraft("draft-1", 1, "{\"notes\": \"typing\"}");
+        String second = saveDraft("draft-1", 1, "{\"notes\": \"typing more\"}");
+        String retry = saveDraft("draft-1", 1, "{\"notes\": \"typing more\"}");
+
+        assertThat(objectMapper.readTree(second).get("id")).isEqualTo(objectMapper.readTree(first).get("id"));
+        assertThat(retry).isEqualTo(second);
+        expectLatestNotes("typing more");
+        mockMvc.perform(get("/lists/" + listId + "/problems/1/attempts").header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.length()").value(1));
+
+        saveDraft("draft-2", 1, "{\"notes\": \"another attempt\"}");
+        mockMvc.perform(get("/lists/" + listId + "/problems/1/attempts").header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.length()").value(2));
+        mockMvc.perform(post("/lists/" + listId + "/problems/2/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", "draft-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"notes\": \"x\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batchCreatesValidItemsAndReportsRejectedOnes() throws Exception {
+        String items = """
+                {"items": [
+                  {"neet250Id": 1, "attempt": {"solved": true, "notes": "first"}},
+                  {"neet250Id": 999, "attempt": {"solved": true}},
+                  {"neet250Id": 1, "attempt": {}},
+                  {"neet250Id": 1, "attempt": {"confidence": "SOME"}},
+                  {"neet250Id": 1, "attempt": {"notes": "last"}}
+                ]}
+                """;
+        mockMvc.perform(post("/lists/" + listId + "/attempts:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(items))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.results[0].attempt.notes").value("first"))
+                .andExpect(jsonPath("$.results[0].error").doesNotExist())
+                .andExpect(jsonPath("$.results[1].neet250Id").value(999))
+                .andExpect(jsonPath("$.results[1].error").value("Problem not found"))
+                .andExpect(jsonPath("$.results[2].error").value("Attempt payload must include at least one meaningful field"))
+                .andExpect(jsonPath("$.results[3].error").value("Confidence must be LOW, MEDIUM, or HIGH"))
+                .andExpect(jsonPath("$.results[4].index").value(4))
+                .andExpect(jsonPath("$.results[4].attempt.id").exists());
+
+        expectLatestNotes("last");
+        mockMvc.perform(get("/lists/" + listId + "/problems/1/attempts").header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.length()").value(2));
+        mockMvc.perform(get("/dashboard").param("scope", "list").param("listId", listId.toString())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.solvedCounts.totalSolved").value(1));
+
+        mockMvc.perform(post("/lists/" + listId + "/attempts:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [{\"neet250Id\": 1, \"attempt\": {\"confidence\": \"HIGH\", \"notes\": \"again\"}}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1));
+        expectLatestNotes("again");
+        mockMvc.perform(get("/lists/" + listId + "/problems").param("confidence", "HIGH")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        mockMvc.perform(post("/lists/" + listId + "/attempts:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/lists/" + java.util.UUID.randomUUID() + "/attempts:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(items))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String saveDraft(String draftId, int neetId, String body) throws Exception {
+        return mockMvc.perform(post("/lists/" + listId + "/problems/" + neetId + "/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", draftId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private ResultActions getChanges(String since) throws Exception {
+        return mockMvc.perform(get("/lists/" + listId + "/problems").param("since", since)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    private String createNotesAttempt(String notes) throws Exception {
+        return createNotesAttempt(1, notes);
+    }
+
+    private String createNotesAttempt(int neetId, String notes) throws Exception {
+        String body = mockMvc.perform(post("/lists/" + listId + "/problems/" + neetId + "/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AttemptPayload(null, null, null, null, null, null, null, notes, null))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).get("id").asText();
+    }
+
+    private void expectLatestNotes(String notes) throws Exception {
+        mockMvc.perform(get("/lists/" + listId + "/problems").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].neet250Id").value(1))
+                .andExpect(jsonPath("$[0].latestAttempt.notes").value(notes));
+    }
+
     private record AttemptPayload(Boolean solved, java.time.LocalDate dateSolved, Integer timeMinutes, Integer attempts,
                                   String confidence, String timeComplexity, String spaceComplexity, String notes, String problemUrl) {}
 }
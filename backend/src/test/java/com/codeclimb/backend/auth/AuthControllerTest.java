@@ -90,6 +90,22 @@ class AuthControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void onlyHealthIsExposedToSignedInUsers() throws Exception {
+        var signup = objectMapper.writeValueAsString(new SignupPayload("metrics@example.com", "password123", "America/Chicago"));
+        String signupBody = mockMvc.perform(post("/auth/signup").contentType(MediaType.APPLICATION_JSON).content(signup))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String accessToken = objectMapper.readTree(signupBody).get("accessToken").asText();
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNotFound());
+    }
+
     private record SignupPayload(String email, String password, String timezone) {}
     private record LoginPayload(String email, String password) {}
 }
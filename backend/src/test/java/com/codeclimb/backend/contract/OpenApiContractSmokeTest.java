@@ -5,6 +5,7 @@ import com.codeclimb.backend.repository.AttemptEntryRepository;
 import com.codeclimb.backend.repository.ListRepository;
 import com.codeclimb.backend.repository.ProblemRepository;
 import com.codeclimb.backend.repository.UserRepository;
+import com.codeclimb.backend.service.ProblemCatalog;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +42,7 @@ class OpenApiContractSmokeTest {
     @Autowired private ListRepository listRepository;
     @Autowired private AttemptEntryRepository attemptEntryRepository;
     @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
 
     @BeforeEach
     void clean() {
@@ -58,6 +60,7 @@ class OpenApiContractSmokeTest {
         problem.setDifficulty('E');
         problem.setOrderIndex(1);
         problemRepository.save(problem);
+        problemCatalog.refresh();
     }
 
     @Test
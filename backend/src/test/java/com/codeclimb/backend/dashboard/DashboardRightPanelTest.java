@@ -5,8 +5,10 @@ import com.codeclimb.backend.repository.AttemptEntryRepository;
 import com.codeclimb.backend.repository.ListRepository;
 import com.codeclimb.backend.repository.ProblemRepository;
 import com.codeclimb.backend.repository.UserRepository;
+import com.codeclimb.backend.service.ProblemCatalog;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,11 +19,16 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -43,6 +50,8 @@ class DashboardRightPanelTest {
     @Autowired private ListRepository listRepository;
     @Autowired private AttemptEntryRepository attemptEntryRepository;
     @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
+    @Autowired private MeterRegistry meterRegistry;
 
     @BeforeEach
     void clean() {
@@ -61,6 +70,7 @@ class DashboardRightPanelTest {
             problem.setOrderIndex(i);
             problemRepository.save(problem);
         }
+        problemCatalog.refresh();
     }
 
     @Test
@@ -112,9 +122,9 @@ class DashboardRightPanelTest {
     void streakCurrentCountsConsecutiveDaysEndingToday() throws Exception {
         String token = signupAndGetToken("dashboard-streak-1@example.com");
         UUID listId = createList(token, "C");
-        createAttemptWithDate(token, listId, 1, LocalDate.now().minusDays(2).toString());
-        createAttemptWithDate(token, listId, 2, LocalDate.now().minusDays(1).toString());
-        createAttemptWithDate(token, listId, 3, LocalDate.now().toString());
+        createAttemptWithDate(token, listId, 1, today().minusDays(2).toString());
+        createAttemptWithDate(token, listId, 2, today().minusDays(1).toString());
+        createAttemptWithDate(token, listId, 3, today().toString());
 
         JsonNode dashboard = getDashboard(token);
         assertThat(dashboard.get("streakCurrent").asInt()).isEqualTo(3);
@@ -134,7 +144,7 @@ class DashboardRightPanelTest {
     void singleAttemptDayHasCurrentAndAverageStreakOfOne() throws Exception {
         String token = signupAndGetToken("dashboard-streak-single@example.com");
         UUID listId = createList(token, "Single Day");
-        createAttemptWithDate(token, listId, 1, LocalDate.now().toString());
+        createAttemptWithDate(token, listId, 1, today().toString());
 
         JsonNode dashboard = getDashboard(token);
         assertThat(dashboard.get("streakCurrent").asInt()).isEqualTo(1);
@@ -145,8 +155,8 @@ class DashboardRightPanelTest {
     void streakCurrentIsZeroWhenTodayHasNoAttemptDay() throws Exception {
         String token = signupAndGetToken("dashboard-streak-2@example.com");
         UUID listId = createList(token, "D");
-        createAttemptWithDate(token, listId, 1, LocalDate.now().minusDays(2).toString());
-        createAttemptWithDate(token, listId, 2, LocalDate.now().minusDays(1).toString());
+        createAttemptWithDate(token, listId, 1, today().minusDays(2).toString());
+        createAttemptWithDate(token, listId, 2, today().minusDays(1).toString());
 
         JsonNode dashboard = getDashboard(token);
         assertThat(dashboard.get("streakCurrent").asInt()).isEqualTo(0);
@@ -157,10 +167,10 @@ class DashboardRightPanelTest {
     void streakAverageUsesAllRuns() throws Exception {
         String token = signupAndGetToken("dashboard-streak-3@example.com");
         UUID listId = createList(token, "E");
-        createAttemptWithDate(token, listId, 1, LocalDate.now().minusDays(6).toString());
-        createAttemptWithDate(token, listId, 2, LocalDate.now().minusDays(5).toString());
-        createAttemptWithDate(token, listId, 3, LocalDate.now().minusDays(2).toString());
-        createAttemptWithDate(token, listId, 4, LocalDate.now().minusDays(1).toString());
+        createAttemptWithDate(token, listId, 1, today().minusDays(6).toString());
+        createAttemptWithDate(token, listId, 2, today().minusDays(5).toString());
+        createAttemptWithDate(token, listId, 3, today().minusDays(2).toString());
+        createAttemptWithDate(token, listId, 4, today().minusDays(1).toString());
 
         JsonNode dashboard = getDashboard(token);
         assertThat(dashboard.get("streakAverage").asDouble()).isEqualTo(2.0);
@@ -170,8 +180,8 @@ class DashboardRightPanelTest {
     void streakCurrentBreaksOnGapDay() throws Exception {
         String token = signupAndGetToken("dashboard-streak-gap@example.com");
         UUID listId = createList(token, "Gap");
-        createAttemptWithDate(token, listId, 1, LocalDate.now().minusDays(2).toString());
-        createAttemptWithDate(token, listId, 2, LocalDate.now().toString());
+        createAttemptWithDate(token, listId, 1, today().minusDays(2).toString());
+        createAttemptWithDate(token, listId, 2, today().toString());
 
         JsonNode dashboard = getDashboard(token);
         assertThat(dashboard.get("streakCurrent").asInt()).isEqualTo(1);
@@ -214,8 +224,231 @@ class DashboardRightPanelTest {
         assertThat(all.at("/solvedCounts/totalSolved").asInt()).isEqualTo(2);
     }
 
+    @Test
+    void progressFollowsAttemptUpdatesAndDeletes() throws Exception {
+        String token = signupAndGetToken("dashboard-progress@example.com");
+        UUID listId = createList(token, "Progress");
+        createAttempt(token, listId, 3, true);
+        UUID farthestAttempt = createAttempt(token, listId, 7, true);
+        UUID secondAttempt = createAttempt(token, listId, 7, true);
+
+        JsonNode dashboard = getDashboard(token, "list", listId);
+        assertThat(dashboard.at("/farthestProblem/orderIndex").asInt()).isEqualTo(7);
+        assertThat(dashboard.at("/solvedCounts/totalSolved").asInt()).isEqualTo(2);
+
+        updateAttempt(token, secondAttempt, false);
+        dashboard = getDashboard(token, "list", listId);
+        assertThat(dashboard.at("/farthestProblem/orderIndex").asInt()).isEqualTo(7);
+
+        deleteAttempt(token, farthestAttempt);
+        dashboard = getDashboard(token, "list", listId);
+        assertThat(dashboard.at("/farthestProblem/orderIndex").asInt()).isEqualTo(3);
+        assertThat(dashboard.at("/solvedCounts/totalSolved").asInt()).isEqualTo(1);
+        assertThat(dashboard.at("/solvedCounts/byCategory/0/solvedCount").asInt()).isEqualTo(1);
+        assertThat(dashboard.at("/solvedCounts/byCategory/0/totalInCategory").asInt()).isEqualTo(20);
+        assertThat(dashboard.at("/rightPanel/nextUnsolved/0/orderIndex").asInt()).isEqualTo(4);
+
+        deleteAttempt(token, secondAttempt);
+        dashboard = getDashboard(token, "list", listId);
+        assertThat(dashboard.at("/farthestProblem/orderIndex").asInt()).isEqualTo(3);
+        assertThat(dashboard.at("/rightPanel/latestSolved")).hasSize(1);
+    }
+
+    @Test
+    void repeatedReadsAreCachedUntilAnAttemptWrite() throws Exception {
+        String token = signupAndGetToken("dashboard-cache@example.com");
+        UUID listId = createList(token, "Cache");
+        createAttempt(token, listId, 1, true);
+
+        double hits = cacheMeter("cache.gets", "hit");
+        double invalidations = meterRegistry.get("cache.invalidations").tag("cache", "dashboard").counter().count();
+        getDashboard(token);
+        getDashboard(token);
+        assertThat(cacheMeter("cache.gets", "hit")).isEqualTo(hits + 1);
+
+        createAttempt(token, listId, 4, true);
+        assertThat(meterRegistry.get("cache.invalidations").tag("cache", "dashboard").counter().count())
+                .isEqualTo(invalidations + 1);
+        assertThat(getDashboard(token).at("/farthestProblem/orderIndex").asInt()).isEqualTo(4);
+    }
+
+    private double cacheMeter(String name, String result) {
+        return meterRegistry.get(name).tag("cache", "dashboard").tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void batchReturnsEachScopeInRequestOrder() throws Exception {
+        String token = signupAndGetToken("dashboard-batch@example.com");
+        UUID listA = createList(token, "A");
+        UUID listB = createList(token, "B");
+        createAttempt(token, listA, 1, true);
+        createAttempt(token, listB, 2, true);
+
+        String payload = objectMapper.writeValueAsString(Map.of("requests", List.of(
+                Map.of("scope", "all"),
+                Map.of("scope", "list", "listId", listA.toString()),
+                Map.of("scope", "latest"))));
+        String body = mockMvc.perform(post("/dashboard/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        JsonNode dashboards = objectMapper.readTree(body).get("dashboards");
+        assertThat(dashboards).hasSize(3);
+        assertThat(dashboards.get(0)).isEqualTo(getDashboard(token, "all", null));
+        assertThat(dashboards.get(1)).isEqualTo(getDashboard(token, "list", listA));
+        assertThat(dashboards.get(2)).isEqualTo(getDashboard(token, "latest", null));
+        assertThat(dashboards.get(2).get("latestListId").asText()).isEqualTo(listB.toString());
+    }
+
+    @Test
+    void batchAppliesEachEntrysActivityWindow() throws Exception {
+        String token = signupAndGetToken("dashboard-batch-window@example.com");
+        UUID listId = createList(token, "A");
+        createAttemptWithDate(token, listId, 1, today().minusDays(6).toString());
+        createAttemptWithDate(token, listId, 2, today().minusDays(5).toString());
+        createAttemptWithDate(token, listId, 3, today().minusDays(1).toString());
+
+        String payload = objectMapper.writeValueAsString(Map.of("requests", List.of(
+                Map.of("scope", "latest"),
+                Map.of("scope", "latest", "activity", "ranges", "from", today().minusDays(5).toString()),
+                Map.of("scope", "all", "to", today().minusDays(2).toString()))));
+        String body = mockMvc.perform(post("/dashboard/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        JsonNode dashboards = objectMapper.readTree(body).get("dashboards");
+        assertThat(dashboards.get(0)).isEqualTo(getDashboard(token, "latest", null));
+        assertThat(dashboards.get(1)).isEqualTo(getDashboardPath(token,
+                "/dashboard?activity=ranges&from=" + today().minusDays(5)));
+        assertThat(dashboards.get(1).get("activityRanges").toString()).isEqualTo(
+                "[[\"" + today().minusDays(5) + "\",1],[\"" + today().minusDays(1) + "\",1]]");
+        assertThat(dashboards.get(2).get("activityDays")).hasSize(2);
+        assertThat(dashboards.get(2).has("activityRanges")).isFalse();
+
+        mockMvc.perform(post("/dashboard/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"requests\":[{\"scope\":\"latest\",\"activity\":\"weeks\"}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batchRejectsListScopeWithoutListId() throws Exception {
+        String token = signupAndGetToken("dashboard-batch-invalid@example.com");
+        mockMvc.perform(post("/dashboard/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"requests\":[{\"scope\":\"latest\"},{\"scope\":\"list\"}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void scopeAllKeepsProblemsSolvedInAnyList() throws Exception {
+        String token = signupAndGetToken("dashboard-all-union@example.com");
+        UUID listA = createList(token, "A");
+        UUID listB = createList(token, "B");
+        getDashboard(token, "all", null);
+        UUID inA = createAttempt(token, listA, 6, true);
+        UUID inB = createAttempt(token, listB, 6, true);
+        createAttemptWithDate(token, listB, 2, today().toString());
+
+        JsonNode all = getDashboard(token, "all", null);
+        assertThat(all.at("/solvedCounts/totalSolved").asInt()).isEqualTo(2);
+        assertThat(all.at("/farthestProblem/orderIndex").asInt()).isEqualTo(6);
+        assertThat(all.get("streakCurrent").asInt()).isEqualTo(1);
+
+        deleteAttempt(token, inA);
+        all = getDashboard(token, "all", null);
+        assertThat(all.at("/solvedCounts/totalSolved").asInt()).isEqualTo(2);
+        assertThat(all.at("/farthestProblem/orderIndex").asInt()).isEqualTo(6);
+
+        updateAttempt(token, inB, false);
+        all = getDashboard(token, "all", null);
+        assertThat(all.at("/solvedCounts/totalSolved").asInt()).isEqualTo(1);
+        assertThat(all.at("/solvedCounts/byCategory/0/solvedCount").asInt()).isEqualTo(1);
+        assertThat(all.at("/farthestProblem/orderIndex").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void streaksFollowAttemptDateChangesAndDeletes() throws Exception {
+        String token = signupAndGetToken("dashboard-streak-edit@example.com");
+        UUID listId = createList(token, "Edit");
+        createAttemptWithDate(token, listId, 1, today().minusDays(1).toString());
+        UUID moved = createAttempt(token, listId, 2, true);
+        updateAttemptDate(token, moved, today().minusDays(3).toString());
+        createAttemptWithDate(token, listId, 3, today().toString());
+
+        JsonNode dashboard = getDashboard(token, "list", listId);
+        assertThat(dashboard.get("streakCurrent").asInt()).isEqualTo(2);
+        assertThat(dashboard.get("streakAverage").asDouble()).isEqualTo(1.5);
+
+        updateAttemptDate(token, moved, today().minusDays(2).toString());
+        dashboard = getDashboard(token, "list", listId);
+        assertThat(dashboard.get("streakCurrent").asInt()).isEqualTo(3);
+        assertThat(dashboard.get("streakAverage").asDouble()).isEqualTo(3.0);
+
+        deleteAttempt(token, moved);
+        dashboard = getDashboard(token, "all", null);
+        assertThat(dashboard.get("streakCurrent").asInt()).isEqualTo(2);
+        assertThat(dashboard.get("activityDays")).hasSize(2);
+    }
+
+    @Test
+    void activityRangesEncodeRunsAndWindowClipsThem() throws Exception {
+        String token = signupAndGetToken("dashboard-ranges@example.com");
+        UUID listId = createList(token, "Ranges");
+        createAttemptWithDate(token, listId, 1, today().minusDays(6).toString());
+        createAttemptWithDate(token, listId, 2, today().minusDays(5).toString());
+        createAttemptWithDate(token, listId, 3, today().minusDays(4).toString());
+        createAttemptWithDate(token, listId, 4, today().minusDays(1).toString());
+        createAttemptWithDate(token, listId, 5, today().toString());
+
+        JsonNode full = getDashboard(token);
+        assertThat(full.has("activityRanges")).isFalse();
+        assertThat(full.get("activityDays")).hasSize(5);
+
+        JsonNode ranges = getDashboardPath(token, "/dashboard?activity=ranges");
+        assertThat(ranges.get("activityDays")).isEmpty();
+        assertThat(ranges.get("activityRanges").toString()).isEqualTo(
+                "[[\"" + today().minusDays(6) + "\",3],[\"" + today().minusDays(1) + "\",2]]");
+
+        JsonNode clipped = getDashboardPath(token, "/dashboard?activity=ranges&from=" + today().minusDays(5)
+                + "&to=" + today().minusDays(1));
+        assertThat(clipped.get("activityRanges").toString()).isEqualTo(
+                "[[\"" + today().minusDays(5) + "\",2],[\"" + today().minusDays(1) + "\",1]]");
+        assertThat(clipped.get("streakCurrent").asInt()).isEqualTo(2);
+        assertThat(clipped.get("streakAverage").asDouble()).isEqualTo(2.5);
+
+        JsonNode window = getDashboardPath(token, "/dashboard?from=" + today().minusDays(4));
+        assertThat(window.get("activityDays")).hasSize(3);
+        assertThat(window.get("activityDays").get(0).asText()).isEqualTo(today().minusDays(4).toString());
+    }
+
+    @Test
+    void activityWindowRejectsInvertedDatesAndUnknownFormat() throws Exception {
+        String token = signupAndGetToken("dashboard-window-invalid@example.com");
+        mockMvc.perform(get("/dashboard?from=" + today() + "&to=" + today().minusDays(1))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/dashboard?activity=bits").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
     private JsonNode getDashboard(String token, String scope, UUID listId) throws Exception {
-        String path = listId == null ? "/dashboard?scope=" + scope : "/dashboard?scope=" + scope + "&listId=" + listId;
+        return getDashboardPath(token, listId == null ? "/dashboard?scope=" + scope : "/dashboard?scope=" + scope + "&listId=" + listId);
+    }
+
+    private JsonNode getDashboardPath(String token, String path) throws Exception {
         String body = mockMvc.perform(get(path).header("Authorization", "Bearer " + token))
                 .andExpect(status().isOk())
                 .andReturn()
@@ -228,15 +461,42 @@ class DashboardRightPanelTest {
         return getDashboard(token, "latest", null);
     }
 
-    private void createAttempt(String token, UUID listId, int neetId, boolean solved) throws Exception {
+    private UUID createAttempt(String token, UUID listId, int neetId, boolean solved) throws Exception {
         String payload = objectMapper.writeValueAsString(new AttemptPayload(solved, null, null, null, null, null, null, "", ""));
-        mockMvc.perform(post("/lists/" + listId + "/problems/" + neetId + "/attempts")
+        String body = mockMvc.perform(post("/lists/" + listId + "/problems/" + neetId + "/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return UUID.fromString(objectMapper.readTree(body).get("id").asText());
+    }
+
+    private void updateAttempt(String token, UUID attemptId, boolean solved) throws Exception {
+        String payload = objectMapper.writeValueAsString(new AttemptPayload(solved, null, null, null, null, null, null, "", ""));
+        mockMvc.perform(patch("/attempts/" + attemptId)
                         .header("Authorization", "Bearer " + token)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(payload))
                 .andExpect(status().isOk());
     }
 
+    private void updateAttemptDate(String token, UUID attemptId, String dateSolved) throws Exception {
+        String payload = objectMapper.writeValueAsString(new AttemptPayload(true, dateSolved, null, null, null, null, null, "", ""));
+        mockMvc.perform(patch("/attempts/" + attemptId)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk());
+    }
+
+    private void deleteAttempt(String token, UUID attemptId) throws Exception {
+        mockMvc.perform(delete("/attempts/" + attemptId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
 
     private void createAttemptWithDate(String token, UUID listId, int neetId, String dateSolved) throws Exception {
         String payload = objectMapper.writeValueAsString(new AttemptPayload(true, dateSolved, null, null, null, null, null, "", ""));
@@ -247,6 +507,10 @@ class DashboardRightPanelTest {
                 .andExpect(status().isOk());
     }
 
+    private static LocalDate today() {
+        return LocalDate.now(ZoneId.of("America/Chicago"));
+    }
+
     private String signupAndGetToken(String email) throws Exception {
         String signup = objectMapper.writeValueAsString(new SignupPayload(email, "password123", "America/Chicago"));
         String body = mockMvc.perform(post("/auth/signup").contentType(MediaType.APPLICATION_JSON).content(signup))
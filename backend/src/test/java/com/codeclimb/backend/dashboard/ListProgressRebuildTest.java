@@ -0,0 +1,108 @@
+package com.codeclimb.backend.dashboard;
+
+import com.codeclimb.backend.entity.AttemptEntryEntity;
+import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.entity.ProblemEntity;
+import com.codeclimb.backend.entity.UserEntity;
+import com.codeclimb.backend.repository.AttemptEntryRepository;
+import com.codeclimb.backend.repository.ListProgressRepository;
+import com.codeclimb.backend.repository.ListRepository;
+import com.codeclimb.backend.repository.ProblemRepository;
+import com.codeclimb.backend.repository.UserRepository;
+import com.codeclimb.backend.service.ListProgressService;
+import com.codeclimb.backend.service.ProblemCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:codeclimb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@ActiveProfiles("test")
+class ListProgressRebuildTest {
+
+    private static final int READERS = 4;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private ListRepository listRepository;
+    @Autowired private AttemptEntryRepository attemptEntryRepository;
+    @Autowired private ListProgressRepository listProgressRepository;
+    @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
+    @Autowired private ListProgressService listProgressService;
+
+    @Test
+    void concurrentFirstReadsOfAListWithoutSummaryAllSucceed() throws Exception {
+        problemRepository.deleteAll();
+        ProblemEntity problem = new ProblemEntity();
+        problem.setNeet250Id(1);
+        problem.setTemplateVersion("neet250.v1");
+        problem.setTitle("Problem 1");
+        problem.setLeetcodeSlug("problem-1");
+        problem.setCategory("Arrays");
+        problem.setDifficulty('E');
+        problem.setOrderIndex(1);
+        problemRepository.save(problem);
+        problemCatalog.refresh();
+
+        UserEntity user = new UserEntity();
+        user.setEmail("rebuild@example.com");
+        user.setPasswordHash("unused");
+        user = userRepository.save(user);
+
+        ExecutorService readers = Executors.newFixedThreadPool(READERS);
+        try {
+            for (int round = 0; round < 10; round++) {
+                ListEntity list = new ListEntity();
+                list.setName("Legacy " + round);
+                list.setTemplateVersion("neet250.v1");
+                list.setUserId(user.getId());
+                ListEntity saved = listRepository.save(list);
+                AttemptEntryEntity attempt = new AttemptEntryEntity();
+                attempt.setId(UUID.randomUUID());
+                attempt.setUserId(user.getId());
+                attempt.setListId(saved.getId());
+                attempt.setNeet250Id(1);
+                attempt.setSolved(true);
+                attempt.setDateSolved(LocalDate.of(2024, 3, 10));
+                attempt.setCreatedAt(OffsetDateTime.now());
+                attempt.setUpdatedAt(OffsetDateTime.now());
+                attemptEntryRepository.save(attempt);
+                assertThat(listProgressRepository.findById(saved.getId())).isEmpty();
+
+                CyclicBarrier start = new CyclicBarrier(READERS);
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int i = 0; i < READERS; i++) {
+                    results.add(readers.submit(() -> {
+                        start.await();
+                        return listProgressService.load(saved).getTotalSolved();
+                    }));
+                }
+                for (Future<Integer> result : results) {
+                    assertThat(result.get()).isEqualTo(1);
+                }
+                assertThat(listProgressRepository.findById(saved.getId()).orElseThrow().getActivityDayCount()).isEqualTo(1);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.codeclimb.backend.dashboard;
+
+import com.codeclimb.backend.entity.AttemptEntryEntity;
+import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.entity.ProblemEntity;
+import com.codeclimb.backend.entity.UserEntity;
+import com.codeclimb.backend.repository.AttemptEntryRepository;
+import com.codeclimb.backend.repository.ListRepository;
+import com.codeclimb.backend.repository.ProblemRepository;
+import com.codeclimb.backend.repository.UserRepository;
+import com.codeclimb.backend.service.ListProgressService;
+import com.codeclimb.backend.service.ProblemCatalog;
+import com.codeclimb.backend.service.UserProgressService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:codeclimb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@ActiveProfiles("test")
+class UserProgressRebuildTest {
+
+    private static final int ROUNDS = 20;
+    private static final int REBUILDERS = 3;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private ListRepository listRepository;
+    @Autowired private AttemptEntryRepository attemptEntryRepository;
+    @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
+    @Autowired private ListProgressService listProgressService;
+    @Autowired private UserProgressService userProgressService;
+
+    @Test
+    void rollupRebuiltWhileListsChangeKeepsEveryChange() throws Exception {
+        problemRepository.deleteAll();
+        for (int i = 1; i <= ROUNDS; i++) {
+            ProblemEntity problem = new ProblemEntity();
+            problem.setNeet250Id(i);
+            problem.setTemplateVersion("neet250.v1");
+            problem.setTitle("Problem " + i);
+            problem.setLeetcodeSlug("problem-" + i);
+            problem.setCategory("Arrays");
+            problem.setDifficulty('E');
+            problem.setOrderIndex(i);
+            problemRepository.save(problem);
+        }
+        problemCatalog.refresh();
+
+        UserEntity user = new UserEntity();
+        user.setEmail("rollup-rebuild@example.com");
+        user.setPasswordHash("unused");
+        UUID userId = userRepository.save(user).getId();
+        ListEntity list = new ListEntity();
+        list.setName("Main");
+        list.setTemplateVersion("neet250.v1");
+        list.setUserId(userId);
+        ListEntity saved = listRepository.save(list);
+        listProgressService.initialize(saved);
+
+        ExecutorService workers = Executors.newFixedThreadPool(REBUILDERS + 1);
+        try {
+            for (int round = 1; round <= ROUNDS; round++) {
+                int neetId = round;
+                userProgressService.invalidate(userId, "neet250.v1");
+                CyclicBarrier start = new CyclicBarrier(REBUILDERS + 1);
+                List<Future<?>> results = new ArrayList<>();
+                for (int i = 0; i < REBUILDERS; i++) {
+                    results.add(workers.submit(() -> {
+                        start.await();
+                        return userProgressService.rebuild(userId, "neet250.v1");
+                    }));
+                }
+                results.add(workers.submit(() -> {
+                    AttemptEntryEntity attempt = new AttemptEntryEntity();
+                    attempt.setId(UUID.randomUUID());
+                    attempt.setUserId(userId);
+                    attempt.setListId(saved.getId());
+                    attempt.setNeet250Id(neetId);
+                    attempt.setSolved(true);
+                    attempt.setCreatedAt(OffsetDateTime.now());
+                    attempt.setUpdatedAt(OffsetDateTime.now());
+                    attemptEntryRepository.save(attempt);
+                    start.await();
+                    listProgressService.recordAttemptChange(userId, saved.getId(), neetId, attempt.getUpdatedAt());
+                    return null;
+                }));
+                for (Future<?> result : results) {
+                    result.get();
+                }
+                assertThat(userProgressService.findAll(userId))
+                        .singleElement()
+                        .satisfies(rollup -> assertThat(rollup.getTotalSolved()).isEqualTo(neetId));
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+}
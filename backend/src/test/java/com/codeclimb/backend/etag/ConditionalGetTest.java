@@ -0,0 +1,197 @@
+package com.codeclimb.backend.etag;
+
+import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.entity.ProblemEntity;
+import com.codeclimb.backend.entity.UserEntity;
+import com.codeclimb.backend.repository.AttemptEntryRepository;
+import com.codeclimb.backend.repository.ListRepository;
+import com.codeclimb.backend.repository.ProblemRepository;
+import com.codeclimb.backend.repository.UserRepository;
+import com.codeclimb.backend.security.JwtService;
+import com.codeclimb.backend.service.ProblemCatalog;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:codeclimb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ListRepository listRepository;
+    @Autowired private AttemptEntryRepository attemptEntryRepository;
+    @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtService jwtService;
+
+    private String token;
+    private UUID listId;
+
+    @BeforeEach
+    void setup() {
+        attemptEntryRepository.deleteAll();
+        problemRepository.deleteAll();
+        listRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UserEntity user = new UserEntity();
+        user.setEmail("etag@example.com");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        user = userRepository.save(user);
+
+        ListEntity list = new ListEntity();
+        list.setName("Main");
+        list.setTemplateVersion("neet250.v1");
+        list.setUserId(user.getId());
+        listId = listRepository.save(list).getId();
+
+        ProblemEntity problem = new ProblemEntity();
+        problem.setNeet250Id(1);
+        problem.setTemplateVersion("neet250.v1");
+        problem.setTitle("Two Sum");
+        problem.setLeetcodeSlug("two-sum");
+        problem.setCategory("Arrays");
+        problem.setDifficulty('E');
+        problem.setOrderIndex(1);
+        problemRepository.save(problem);
+        problemCatalog.refresh();
+
+        token = jwtService.generateToken(user.getId(), user.getEmail());
+    }
+
+    @Test
+    void unchangedResourcesAnswerNotModified() throws Exception {
+        for (String path : new String[] {"/lists", "/lists/" + listId + "/problems", "/dashboard"}) {
+            String etag = etag(path);
+            mockMvc.perform(get(path).header("Authorization", "Bearer " + token).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag))
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Test
+    void attemptWriteChangesListAndUserTags() throws Exception {
+        String problemsTag = etag("/lists/" + listId + "/problems");
+        String listsTag = etag("/lists");
+        String dashboardTag = etag("/dashboard");
+
+        mockMvc.perform(post("/lists/" + listId + "/problems/1/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"solved\":true}"))
+                .andExpect(status().isOk());
+
+        assertThat(etag("/lists/" + listId + "/problems")).isNotEqualTo(problemsTag);
+        assertThat(etag("/lists")).isNotEqualTo(listsTag);
+        mockMvc.perform(get("/dashboard").header("Authorization", "Bearer " + token).header("If-None-Match", dashboardTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void renameChangesListsTag() throws Exception {
+        String listsTag = etag("/lists");
+
+        mockMvc.perform(patch("/lists/" + listId)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/lists").header("Authorization", "Bearer " + token).header("If-None-Match", listsTag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Renamed")));
+    }
+
+    @Test
+    void smileIsServedOnlyWhenAskedForAndTaggedSeparately() throws Exception {
+        String jsonTag = etag("/lists/" + listId + "/problems");
+        byte[] smile = mockMvc.perform(get("/lists/" + listId + "/problems")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", "application/x-jackson-smile, application/json;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-jackson-smile"))
+                .andExpect(header().string("ETag", jsonTag.replaceFirst("\"$", "-smile\"")))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode rows = new ObjectMapper(new SmileFactory()).readTree(smile);
+        assertThat(rows.get(0).get("title").asText()).isEqualTo("Two Sum");
+
+        mockMvc.perform(get("/dashboard").header("Authorization", "Bearer " + token)
+                        .header("Accept", "application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-jackson-smile"));
+        mockMvc.perform(get("/lists/" + listId + "/problems").header("Authorization", "Bearer " + token)
+                        .header("Accept", "application/json, application/x-jackson-smile;q=0.5"))
+                .andExpect(header().string("Content-Type", "application/json"))
+                .andExpect(header().string("ETag", jsonTag));
+    }
+
+    @Test
+    void templateCatalogIsServedPreGzipped() throws Exception {
+        String plain = mockMvc.perform(get("/templates/neet250.v1/problems"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().string("Cache-Control", containsString("public")))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(plain).contains("\"leetcodeSlug\":\"two-sum\"");
+
+        MockHttpServletResponse gzipped = mockMvc.perform(get("/templates/neet250.v1/problems")
+                        .header("Accept-Encoding", "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain);
+        }
+        mockMvc.perform(get("/templates/neet250.v1/problems")
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", gzipped.getHeader("ETag")))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/templates/unknown.v9/problems")).andExpect(status().isBadRequest());
+    }
+
+    private String etag(String path) throws Exception {
+        String etag = mockMvc.perform(get(path).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        assertThat(etag).isNotBlank();
+        return etag;
+    }
+}
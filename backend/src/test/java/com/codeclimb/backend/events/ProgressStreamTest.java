@@ -0,0 +1,170 @@
+package com.codeclimb.backend.events;
+
+import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.entity.ProblemEntity;
+import com.codeclimb.backend.entity.UserEntity;
+import com.codeclimb.backend.repository.AttemptEntryRepository;
+import com.codeclimb.backend.repository.ListRepository;
+import com.codeclimb.backend.repository.ProblemRepository;
+import com.codeclimb.backend.repository.UserRepository;
+import com.codeclimb.backend.security.JwtService;
+import com.codeclimb.backend.service.ListProgressService;
+import com.codeclimb.backend.service.ProblemCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:codeclimb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProgressStreamTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ListRepository listRepository;
+    @Autowired private AttemptEntryRepository attemptEntryRepository;
+    @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
+    @Autowired private ListProgressService listProgressService;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtService jwtService;
+
+    private String token;
+    private UUID listId;
+
+    @BeforeEach
+    void setup() {
+        attemptEntryRepository.deleteAll();
+        problemRepository.deleteAll();
+        listRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UserEntity user = new UserEntity();
+        user.setEmail("events@example.com");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        user = userRepository.save(user);
+
+        ListEntity list = new ListEntity();
+        list.setName("Main");
+        list.setTemplateVersion("neet250.v1");
+        list.setUserId(user.getId());
+        list = listRepository.save(list);
+        listProgressService.initialize(list);
+        listId = list.getId();
+
+        ProblemEntity problem = new ProblemEntity();
+        problem.setNeet250Id(1);
+        problem.setTemplateVersion("neet250.v1");
+        problem.setTitle("Two Sum");
+        problem.setLeetcodeSlug("two-sum");
+        problem.setCategory("Arrays");
+        problem.setDifficulty('E');
+        problem.setOrderIndex(1);
+        problemRepository.save(problem);
+        problemCatalog.refresh();
+
+        token = jwtService.generateToken(user.getId(), user.getEmail());
+    }
+
+    @Test
+    void attemptWritesPushProblemRowAndDashboardDeltas() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/events").header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/lists/" + listId + "/problems/1/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"solved\":true,\"dateSolved\":\"2024-03-01\"}"))
+                .andExpect(status().isOk());
+
+        String events = awaitEvents(stream, 0, "\"scope\":\"list\"");
+        assertThat(events).contains("event:problem");
+        assertThat(events).contains("\"listId\":\"" + listId + "\",\"neet250Id\":1,\"latestAttempt\":{\"solved\":true");
+        assertThat(events).contains("event:dashboard");
+        assertThat(events).contains("\"activityDaysAdded\":[\"2024-03-01\"]");
+        assertThat(events).contains("\"totalSolved\":1");
+
+        mockMvc.perform(post("/lists/" + listId + "/problems/1/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"notes\":\"again\"}"))
+                .andExpect(status().isOk());
+
+        String next = awaitEvents(stream, events.length(), "\"scope\":\"list\"");
+        assertThat(next).contains("\"notes\":\"again\"");
+        String dashboards = next.substring(next.indexOf("event:dashboard"));
+        assertThat(dashboards).contains("lastActivityAt");
+        assertThat(dashboards).doesNotContain("solvedCounts").doesNotContain("activityDaysAdded");
+    }
+
+    @Test
+    void batchCreatesPushOneProblemRowPerProblem() throws Exception {
+        ProblemEntity problem = new ProblemEntity();
+        problem.setNeet250Id(2);
+        problem.setTemplateVersion("neet250.v1");
+        problem.setTitle("Valid Anagram");
+        problem.setLeetcodeSlug("valid-anagram");
+        problem.setCategory("Arrays");
+        problem.setDifficulty('E');
+        problem.setOrderIndex(2);
+        problemRepository.save(problem);
+        problemCatalog.refresh();
+        MvcResult stream = mockMvc.perform(get("/events").header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/lists/" + listId + "/attempts:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"neet250Id\":1,\"attempt\":{\"notes\":\"first\"}},"
+                                + "{\"neet250Id\":2,\"attempt\":{\"solved\":true}},"
+                                + "{\"neet250Id\":1,\"attempt\":{\"notes\":\"second\"}}]}"))
+                .andExpect(status().isOk());
+
+        String events = awaitEvents(stream, 0, "\"scope\":\"list\"");
+        assertThat(events.split("event:problem", -1)).hasSize(3);
+        assertThat(events).contains("\"listId\":\"" + listId + "\",\"neet250Id\":1,\"latestAttempt\":{\"solved\":null");
+        assertThat(events).contains("\"notes\":\"second\"").doesNotContain("\"notes\":\"first\"");
+        assertThat(events).contains("\"listId\":\"" + listId + "\",\"neet250Id\":2,\"latestAttempt\":{\"solved\":true");
+        assertThat(events).contains("\"totalSolved\":1");
+    }
+
+    @Test
+    void streamRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/events")).andExpect(status().isUnauthorized());
+    }
+
+    private static String awaitEvents(MvcResult stream, int offset, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = stream.getResponse().getContentAsString().substring(offset);
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = stream.getResponse().getContentAsString().substring(offset);
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
@@ -0,0 +1,156 @@
+package com.codeclimb.backend.export;
+
+import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.entity.ProblemEntity;
+import com.codeclimb.backend.entity.UserEntity;
+import com.codeclimb.backend.repository.ListRepository;
+import com.codeclimb.backend.repository.ProblemRepository;
+import com.codeclimb.backend.repository.UserRepository;
+import com.codeclimb.backend.security.JwtService;
+import com.codeclimb.backend.service.ProblemCatalog;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:codeclimb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "app.export.chunk-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AttemptExportTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ListRepository listRepository;
+    @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtService jwtService;
+
+    private String token;
+    private UUID mainListId;
+    private UUID reviewListId;
+
+    @BeforeEach
+    void setup() {
+        problemRepository.deleteAll();
+        listRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UserEntity user = new UserEntity();
+        user.setEmail("export@example.com");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        user = userRepository.save(user);
+        mainListId = list(user.getId(), "Main");
+        reviewListId = list(user.getId(), "Review");
+
+        UserEntity other = new UserEntity();
+        other.setEmail("other@example.com");
+        other.setPasswordHash(passwordEncoder.encode("password123"));
+        other = userRepository.save(other);
+        list(other.getId(), "Other");
+
+        problem(1, "Two Sum");
+        problem(2, "Valid Anagram");
+        problemCatalog.refresh();
+
+        token = jwtService.generateToken(user.getId(), user.getEmail());
+    }
+
+    @Test
+    void ndjsonCoversEveryListAcrossChunksInChangeOrder() throws Exception {
+        attempt(mainListId, 1, "first");
+        attempt(reviewListId, 2, "second");
+        attempt(mainListId, 2, "third");
+        attempt(reviewListId, 1, "fourth");
+        attempt(mainListId, 1, "fifth");
+
+        String body = mockMvc.perform(get("/export/attempts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"codeclimb-attempts.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertThat(body).endsWith("\n");
+        assertThat(rows).extracting(row -> row.get("notes").asText())
+                .containsExactly("first", "second", "third", "fourth", "fifth");
+        assertThat(rows.get(1).get("listName").asText()).isEqualTo("Review");
+        assertThat(rows.get(1).get("title").asText()).isEqualTo("Valid Anagram");
+        assertThat(rows.get(1).get("neet250Id").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void csvQuotesFieldsThatNeedIt() throws Exception {
+        attempt(mainListId, 1, "hash map, then \"two pointers\"\nsecond line");
+
+        String body = mockMvc.perform(get("/export/attempts?format=csv").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).startsWith("list_id,list_name,neet250_id,title,category,difficulty,attempt_id,solved,");
+        assertThat(body).contains(",Main,1,Two Sum,Arrays,E,");
+        assertThat(body).contains(",\"hash map, then \"\"two pointers\"\"\nsecond line\",");
+        assertThat(body.split("\r\n")).hasSize(2);
+
+        mockMvc.perform(get("/export/attempts?format=xml").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void attempt(UUID listId, int neetId, String notes) throws Exception {
+        mockMvc.perform(post("/lists/" + listId + "/problems/" + neetId + "/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(java.util.Map.of("solved", true, "notes", notes))))
+                .andExpect(status().isOk());
+    }
+
+    private UUID list(UUID userId, String name) {
+        ListEntity list = new ListEntity();
+        list.setName(name);
+        list.setTemplateVersion("neet250.v1");
+        list.setUserId(userId);
+        return listRepository.save(list).getId();
+    }
+
+    private void problem(int neetId, String title) {
+        ProblemEntity problem = new ProblemEntity();
+        problem.setNeet250Id(neetId);
+        problem.setTemplateVersion("neet250.v1");
+        problem.setTitle(title);
+        problem.setLeetcodeSlug("problem-" + neetId);
+        problem.setCategory("Arrays");
+        problem.setDifficulty('E');
+        problem.setOrderIndex(neetId);
+        problemRepository.save(problem);
+    }
+}
@@ -0,0 +1,150 @@
+package com.codeclimb.backend.problem;
+
+import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.entity.ProblemEntity;
+import com.codeclimb.backend.entity.UserEntity;
+import com.codeclimb.backend.repository.ListRepository;
+import com.codeclimb.backend.repository.ProblemRepository;
+import com.codeclimb.backend.repository.UserRepository;
+import com.codeclimb.backend.security.JwtService;
+import com.codeclimb.backend.service.ProblemCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:codeclimb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "app.streaming.chunk-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProblemListingFilterTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ListRepository listRepository;
+    @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtService jwtService;
+
+    private String token;
+    private UUID listId;
+
+    @BeforeEach
+    void setup() {
+        problemRepository.deleteAll();
+        listRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UserEntity user = new UserEntity();
+        user.setEmail("filters@example.com");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        user = userRepository.save(user);
+
+        ListEntity list = new ListEntity();
+        list.setName("Main");
+        list.setTemplateVersion("neet250.v1");
+        list.setUserId(user.getId());
+        listId = listRepository.save(list).getId();
+
+        problem(1, "Arrays", 'E');
+        problem(2, "Arrays", 'M');
+        problem(3, "Trees", 'M');
+        problem(4, "Trees", 'H');
+        problem(5, "Arrays", 'H');
+        problemCatalog.refresh();
+
+        token = jwtService.generateToken(user.getId(), user.getEmail());
+    }
+
+    @Test
+    void filtersOnProblemAndLatestAttemptColumns() throws Exception {
+        attempt(2, "{\"solved\":true,\"confidence\":\"HIGH\"}");
+        attempt(3, "{\"solved\":false,\"confidence\":\"LOW\"}");
+        String fourth = attempt(4, "{\"solved\":true,\"confidence\":\"LOW\"}");
+
+        list("").andExpect(jsonPath("$[*].neet250Id", contains(1, 2, 3, 4, 5)))
+                .andExpect(jsonPath("$[3].latestAttempt.confidence").value("LOW"));
+        list("category=Arrays").andExpect(jsonPath("$[*].neet250Id", contains(1, 2, 5)));
+        list("difficulty=M").andExpect(jsonPath("$[*].neet250Id", contains(2, 3)));
+        list("status=solved").andExpect(jsonPath("$[*].neet250Id", contains(2, 4)))
+                .andExpect(jsonPath("$[0].latestAttempt.confidence").value("HIGH"));
+        list("status=unsolved").andExpect(jsonPath("$[*].neet250Id", contains(1, 3, 5)))
+                .andExpect(jsonPath("$[0].latestAttempt").doesNotExist());
+        list("confidence=LOW&category=Trees").andExpect(jsonPath("$[*].neet250Id", contains(3, 4)));
+        list("compact=true&status=solved").andExpect(jsonPath("$[*].neet250Id", contains(2, 4)))
+                .andExpect(jsonPath("$[0].latestAttempt.hasNotes").value(false));
+
+        mockMvc.perform(delete("/attempts/" + fourth).header("Authorization", "Bearer " + token))
+                .andExpect(status().is2xxSuccessful());
+        list("status=solved").andExpect(jsonPath("$[*].neet250Id", contains(2)));
+    }
+
+    @Test
+    void pagesByOrderIndexInEitherDirection() throws Exception {
+        list("limit=2").andExpect(jsonPath("$[*].neet250Id", contains(1, 2)));
+        list("limit=2&after=2").andExpect(jsonPath("$[*].neet250Id", contains(3, 4)));
+        list("limit=2&after=4").andExpect(jsonPath("$[*].neet250Id", contains(5)));
+        list("sort=-order&limit=3").andExpect(jsonPath("$[*].neet250Id", contains(5, 4, 3)));
+        list("sort=-order&after=3").andExpect(jsonPath("$[*].neet250Id", contains(2, 1)));
+    }
+
+    @Test
+    void rejectsUnknownFilterValues() throws Exception {
+        for (String query : new String[] {"difficulty=X", "status=done", "confidence=SOME", "sort=title", "limit=0"}) {
+            mockMvc.perform(get("/lists/" + listId + "/problems?" + query).header("Authorization", "Bearer " + token))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private ResultActions list(String query) throws Exception {
+        return mockMvc.perform(get("/lists/" + listId + "/problems?" + query).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    private String attempt(int neetId, String body) throws Exception {
+        String response = mockMvc.perform(post("/lists/" + listId + "/problems/" + neetId + "/attempts")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asText();
+    }
+
+    private void problem(int neetId, String category, char difficulty) {
+        ProblemEntity problem = new ProblemEntity();
+        problem.setNeet250Id(neetId);
+        problem.setTemplateVersion("neet250.v1");
+        problem.setTitle("Problem " + neetId);
+        problem.setLeetcodeSlug("problem-" + neetId);
+        problem.setCategory(category);
+        problem.setDifficulty(difficulty);
+        problem.setOrderIndex(neetId);
+        problemRepository.save(problem);
+    }
+}
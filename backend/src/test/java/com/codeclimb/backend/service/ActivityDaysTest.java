@@ -0,0 +1,77 @@
+package com.codeclimb.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ActivityDaysTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+    @Test
+    void setKeepsDayAndRunCountsInStep() {
+        ActivityDays activity = ActivityDays.empty();
+        activity.set(TODAY, true);
+        activity.set(TODAY.minusDays(2), true);
+        assertThat(activity.runCount()).isEqualTo(2);
+
+        activity.set(TODAY.minusDays(1), true);
+        assertThat(activity.dayCount()).isEqualTo(3);
+        assertThat(activity.runCount()).isEqualTo(1);
+        assertThat(activity.currentStreak(TODAY)).isEqualTo(3);
+
+        activity.set(TODAY.minusDays(1), false);
+        assertThat(activity.runCount()).isEqualTo(2);
+        assertThat(activity.averageStreak()).isEqualTo(1.0);
+        assertThat(activity.currentStreak(TODAY)).isEqualTo(1);
+        assertThat(activity.currentStreak(TODAY.plusDays(1))).isZero();
+    }
+
+    @Test
+    void earlierDaysRebaseTheBitmap() {
+        ActivityDays activity = ActivityDays.empty();
+        activity.set(TODAY, true);
+        activity.set(TODAY.minusYears(3), true);
+
+        assertThat(activity.baseDay()).isEqualTo((int) TODAY.minusYears(3).toEpochDay());
+        assertThat(activity.days()).containsExactly(TODAY.minusYears(3), TODAY);
+
+        ActivityDays restored = ActivityDays.of(activity.baseDay(), activity.toByteArray(),
+                activity.dayCount(), activity.runCount());
+        assertThat(restored.days()).containsExactly(TODAY.minusYears(3), TODAY);
+        assertThat(restored.averageStreak()).isEqualTo(1.0);
+    }
+
+    @Test
+    void refusesDaysSpreadWiderThanTheCap() {
+        ActivityDays activity = ActivityDays.of(List.of(TODAY));
+
+        assertThatThrownBy(() -> activity.set(TODAY.minusDays(ActivityDays.MAX_SPAN_DAYS), true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> activity.set(LocalDate.MAX, true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> activity.or(ActivityDays.of(List.of(LocalDate.of(1, 1, 1)))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(activity.days()).containsExactly(TODAY);
+
+        activity.set(TODAY.minusDays(ActivityDays.MAX_SPAN_DAYS - 1), true);
+        assertThat(activity.toByteArray()).hasSizeLessThanOrEqualTo(ActivityDays.MAX_SPAN_DAYS / 8 + 1);
+    }
+
+    @Test
+    void orRecomputesRunsAcrossLists() {
+        ActivityDays first = ActivityDays.of(List.of(TODAY.minusDays(3), TODAY.minusDays(1)));
+        ActivityDays second = ActivityDays.of(List.of(TODAY.minusDays(5), TODAY.minusDays(2), TODAY));
+
+        first.or(second);
+
+        assertThat(first.dayCount()).isEqualTo(5);
+        assertThat(first.runCount()).isEqualTo(2);
+        assertThat(first.currentStreak(TODAY)).isEqualTo(4);
+        assertThat(first.averageStreak()).isEqualTo(2.5);
+    }
+}
@@ -0,0 +1,103 @@
+package com.codeclimb.backend.service;
+
+import com.codeclimb.backend.entity.ListEntity;
+import com.codeclimb.backend.entity.ProblemEntity;
+import com.codeclimb.backend.entity.UserEntity;
+import com.codeclimb.backend.repository.ListRepository;
+import com.codeclimb.backend.repository.ProblemRepository;
+import com.codeclimb.backend.repository.UserRepository;
+import com.codeclimb.backend.security.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:codeclimb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AttemptExportServiceTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JsonStreamer jsonStreamer;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ListRepository listRepository;
+    @Autowired private ProblemRepository problemRepository;
+    @Autowired private ProblemCatalog problemCatalog;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtService jwtService;
+
+    @Test
+    void writesEachChunkAfterItsTransactionEnds() throws Exception {
+        problemRepository.deleteAll();
+        listRepository.deleteAll();
+        userRepository.deleteAll();
+        UserEntity user = new UserEntity();
+        user.setEmail("export-chunks@example.com");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        user = userRepository.save(user);
+        ListEntity list = new ListEntity();
+        list.setName("Main");
+        list.setTemplateVersion("neet250.v1");
+        list.setUserId(user.getId());
+        list = listRepository.save(list);
+        ProblemEntity problem = new ProblemEntity();
+        problem.setNeet250Id(1);
+        problem.setTemplateVersion("neet250.v1");
+        problem.setTitle("Two Sum");
+        problem.setLeetcodeSlug("two-sum");
+        problem.setCategory("Arrays");
+        problem.setDifficulty('E');
+        problem.setOrderIndex(1);
+        problemRepository.save(problem);
+        problemCatalog.refresh();
+
+        String token = jwtService.generateToken(user.getId(), user.getEmail());
+        String notes = "n".repeat(250);
+        for (int i = 0; i < 40; i++) {
+            mockMvc.perform(post("/lists/" + list.getId() + "/problems/1/attempts")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("solved", true, "notes", notes))))
+                    .andExpect(status().isOk());
+        }
+
+        AttemptExportService exportService = new AttemptExportService(jsonStreamer, objectMapper, 25);
+        for (ExportFormat format : ExportFormat.values()) {
+            List<Boolean> writesInTransaction = new ArrayList<>();
+            ByteArrayOutputStream out = new ByteArrayOutputStream() {
+                @Override
+                public synchronized void write(byte[] bytes, int offset, int length) {
+                    writesInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+                    super.write(bytes, offset, length);
+                }
+            };
+            exportService.write(user.getId(), format, out);
+
+            assertThat(out.size()).isGreaterThan(16_000);
+            assertThat(writesInTransaction).hasSizeGreaterThan(1).doesNotContain(true);
+        }
+    }
+}
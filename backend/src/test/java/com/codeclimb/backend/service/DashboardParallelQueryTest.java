@@ -0,0 +1,15 @@
+package com.codeclimb.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DashboardParallelQueryTest {
+
+    @Test
+    void refusesAPoolThatCouldTakeEveryConnection() {
+        assertThatThrownBy(() -> new DashboardParallelQuery(null, null, 10, 100, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximum pool size (10)");
+    }
+}
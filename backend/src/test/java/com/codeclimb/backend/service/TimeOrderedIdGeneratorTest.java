@@ -0,0 +1,37 @@
+package com.codeclimb.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-10T12:00:00Z");
+
+    @Test
+    void carriesVersionVariantAndTimestamp() {
+        UUID id = new TimeOrderedIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC)).next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    void idsFromOneGeneratorKeepIncreasingWithinAMillisecond() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+        UUID previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.next();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+        assertThat(previous.getMostSignificantBits() >>> 16).isGreaterThan(NOW.toEpochMilli());
+    }
+}
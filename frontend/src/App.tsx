@@ -6,7 +6,7 @@ import { COMPLEXITY_PRESETS, EMPTY_ATTEMPT, getComplexityOptions, isEmptyAttempt
 import { Button, Card, ComboBox, Input, Pill, Select, Modal } from './components/primitives';
 import { useAuthCtaModal } from './hooks/useAuthCtaModal';
 import { THEME_OPTIONS, useTheme } from './theme';
-import type { Attempt, Dashboard, ListItem, ProblemWithLatestAttempt, UpsertAttemptRequest } from './types';
+import type { Attempt, CompactProblem, Dashboard, ListItem, ProblemWithLatestAttempt, UpsertAttemptRequest } from './types';
 import './styles.css';
 
 // Legacy dashboard labels kept for compatibility checks: Farthest category / Latest solved.
@@ -143,6 +143,7 @@ function wakeBackend(): Promise<void> {
 }
 
 const DEMO_ACTIVITY_DAYS = ['2026-02-02', '2026-02-04', '2026-02-05', '2026-02-09', '2026-02-12', '2026-02-13'];
+const HISTORY_PAGE_SIZE = 20;
 const DEMO_LEVEL: DashboardLevel = { number: 7, label: 'Trees' };
 const DEMO_CARDS: DashboardCard[] = [
   { neet250Id: 104, title: 'Binary Tree Level Order Traversal', category: 'Trees', orderIndex: 4, leetcodeUrl: 'https://leetcode.com/problems/binary-tree-level-order-traversal/', latestAttempt: { attemptId: null, solved: null, attempts: 2, confidence: 'MEDIUM', notes: 'Review BFS queue patterns.' } },
@@ -376,7 +377,7 @@ function DashboardPage() {
   const [isCreatingList, setIsCreatingList] = useState(false);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
-  const [progressProblems, setProgressProblems] = useState<ProblemWithLatestAttempt[]>([]);
+  const [progressProblems, setProgressProblems] = useState<CompactProblem[]>([]);
   const [upNextState, setUpNextState] = useState<Record<number, UpNextState>>({});
   const [dashboardProblemCount, setDashboardProblemCount] = useState(5);
   const [calendarMonth, setCalendarMonth] = useState(() => new Date().getMonth());
@@ -385,6 +386,7 @@ function DashboardPage() {
   const [attemptDetailDraft, setAttemptDetailDraft] = useState<UpsertAttemptRequest>({ ...EMPTY_ATTEMPT });
   const timeoutRefs = useRef<Record<number, ReturnType<typeof setTimeout> | undefined>>({});
   const requestVersionRef = useRef<Record<number, number>>({});
+  const draftIdsRef = useRef<Record<string, string>>({});
   const upNextStateRef = useRef<Record<number, UpNextState>>({});
 
   useEffect(() => {
@@ -426,7 +428,7 @@ function DashboardPage() {
     const fallbackListId = latestDashboard.latestListId ?? latestDashboard.listId ?? lists[0]?.id ?? null;
     const progressListId = scope === 'list' ? listId : fallbackListId;
     if (progressListId) {
-      setProgressProblems(await api.getProblems(token, progressListId));
+      setProgressProblems(await api.getProblemsCompact(token, progressListId));
     } else {
       setProgressProblems([]);
     }
@@ -558,7 +560,7 @@ function DashboardPage() {
         const existingAttemptId = upNextStateRef.current[card.neet250Id]?.attemptId ?? null;
         const saved = existingAttemptId
           ? await api.patchAttempt(token, existingAttemptId, draft)
-          : await api.createAttempt(token, targetListId, card.neet250Id, draft);
+          : await api.createAttempt(token, targetListId, card.neet250Id, draft, (draftIdsRef.current[`${targetListId}:${card.neet250Id}`] ??= crypto.randomUUID()));
         if (requestVersionRef.current[card.neet250Id] !== version) {
           return;
         }
@@ -969,11 +971,13 @@ function ProblemsPage() {
         status: SaveState;
         error: string | null;
         history: Array<{ item: ProblemWithLatestAttempt['latestAttempt'] & { id: string; updatedAt?: string | null } }>;
+        historyCursor?: string | null;
       }
     >
   >({});
   const timeoutRefs = useRef<Record<number, ReturnType<typeof setTimeout> | undefined>>({});
   const requestVersionRef = useRef<Record<number, number>>({});
+  const draftIdsRef = useRef<Record<string, string>>({});
   const retryVersionRef = useRef<Record<number, number>>({});
   const editorStateRef = useRef(editorState);
 
@@ -1289,7 +1293,7 @@ function ProblemsPage() {
         const attemptId = editorStateRef.current[problem.neet250Id]?.attemptId ?? null;
         const saved = attemptId
           ? await api.patchAttempt(token, attemptId, draft)
-          : await api.createAttempt(token, selectedListId, problem.neet250Id, draft);
+          : await api.createAttempt(token, selectedListId, problem.neet250Id, draft, (draftIdsRef.current[`${selectedListId}:${problem.neet250Id}`] ??= crypto.randomUUID()));
         if (requestVersionRef.current[problem.neet250Id] !== version) {
           return;
         }
@@ -1359,18 +1363,35 @@ function ProblemsPage() {
     scheduleSave(problem, nextDraft, { immediate });
   };
 
-  const loadHistory = async (problem: ProblemWithLatestAttempt) => {
+  const loadHistory = async (problem: ProblemWithLatestAttempt, cursor?: string | null) => {
     if (!token || !selectedListId) {
       return;
     }
-    const history = await api.getAttemptsHistory(token, selectedListId, problem.neet250Id);
-    setEditorState((prev) => ({
-      ...prev,
-      [problem.neet250Id]: {
-        ...(prev[problem.neet250Id] ?? { attemptId: null, draft: EMPTY_ATTEMPT, status: 'idle', error: null }),
-        history: history.map((item) => ({ item })),
-      },
-    }));
+    const page = await api.getAttemptsHistoryPage(token, selectedListId, problem.neet250Id, HISTORY_PAGE_SIZE, cursor);
+    setEditorState((prev) => {
+      const current = prev[problem.neet250Id] ?? { attemptId: null, draft: EMPTY_ATTEMPT, status: 'idle' as SaveState, error: null, history: [] };
+      const items = page.attempts.map((item) => ({ item }));
+      return {
+        ...prev,
+        [problem.neet250Id]: {
+          ...current,
+          history: cursor ? [...current.history, ...items] : items,
+          historyCursor: page.nextCursor,
+        },
+      };
+    });
+  };
+
+  const exportAttempts = async () => {
+    if (!token) {
+      return;
+    }
+    const url = URL.createObjectURL(await api.exportAttempts(token, 'csv'));
+    const link = document.createElement('a');
+    link.href = url;
+    link.download = 'codeclimb-attempts.csv';
+    link.click();
+    URL.revokeObjectURL(url);
   };
 
   const expandAll = () => {
@@ -1424,6 +1445,7 @@ function ProblemsPage() {
         <div style={{ display: 'flex', gap: 8 }}>
           {token ? <Button variant="secondary" onClick={() => setIsCreatingList(true)}>Create new list</Button> : null}
           {token && selectedListId ? <Button variant="secondary" onClick={() => setShowImport(true)}>Import from spreadsheet</Button> : null}
+          {token ? <Button variant="secondary" onClick={() => void exportAttempts()}>Export CSV</Button> : null}
         </div>
       </div>
       {isCreatingList ? (
@@ -1717,6 +1739,11 @@ function ProblemsPage() {
                                     );
                                   })}
                                 </ul>
+                                {state.historyCursor ? (
+                                  <Button variant="ghost" onClick={() => void loadHistory(problem, state.historyCursor)}>
+                                    Load older
+                                  </Button>
+                                ) : null}
                               </div>
                             </div>
                           ) : null}
@@ -1,5 +1,5 @@
 import { API_BASE_URL, AUTH_STORAGE_KEY } from './config';
-import type { Attempt, AuthResponse, CreateListRequest, Dashboard, ListItem, LoginRequest, ProblemWithLatestAttempt, SignupRequest, UpsertAttemptRequest } from './types';
+import type { Attempt, AttemptSearchHit, AuthResponse, BatchAttemptItem, BatchAttemptResponse, BatchDashboardResponse, CatalogProblem, CreateListRequest, Dashboard, DashboardChanged, DashboardScopeRequest, CompactProblem, ListItem, LoginRequest, ProblemChanges, ProblemNotes, ProblemRowChanged, ProblemWithLatestAttempt, SignupRequest, UpsertAttemptRequest } from './types';
 
 export class ApiError extends Error {
   constructor(message: string, readonly status: number) {
@@ -40,7 +40,7 @@ async function wakeProbe(path: string): Promise<boolean> {
   }
 }
 
-async function request<T>(path: string, init: RequestInit = {}, token?: string | null): Promise<T> {
+async function send(path: string, init: RequestInit = {}, token?: string | null): Promise<Response> {
   const headers = new Headers(init.headers);
   headers.set('Content-Type', 'application/json');
   if (token) {
@@ -67,6 +67,11 @@ async function request<T>(path: string, init: RequestInit = {}, token?: string |
     }
   }
 
+  return response;
+}
+
+async function request<T>(path: string, init: RequestInit = {}, token?: string | null): Promise<T> {
+  const response = await send(path, init, token);
   if (response.status === 204) {
     return undefined as T;
   }
@@ -74,6 +79,32 @@ async function request<T>(path: string, init: RequestInit = {}, token?: string |
   return (await response.json()) as T;
 }
 
+export type ProblemListQuery = {
+  category?: string;
+  difficulty?: 'E' | 'M' | 'H';
+  status?: 'solved' | 'unsolved';
+  confidence?: 'LOW' | 'MEDIUM' | 'HIGH';
+  sort?: 'order' | '-order';
+  after?: number;
+  limit?: number;
+  compact?: boolean;
+};
+
+export type AttemptHistoryPage = {
+  attempts: Attempt[];
+  nextCursor: string | null;
+  total: number | null;
+};
+
+function problemQueryString(query: ProblemListQuery): string {
+  const params = new URLSearchParams();
+  for (const [key, value] of Object.entries(query)) {
+    if (value !== undefined) params.set(key, String(value));
+  }
+  const search = params.toString();
+  return search ? `?${search}` : '';
+}
+
 export const api = {
   wakeBackend: () => wakeProbe('/actuator/health'),
   signup: (payload: SignupRequest) =>
@@ -87,15 +118,83 @@ export const api = {
     }
     return request<Dashboard>(`/dashboard?${params.toString()}`, {}, token);
   },
+  getDashboards: (token: string, requests: DashboardScopeRequest[]) =>
+    request<BatchDashboardResponse>('/dashboard/batch', { method: 'POST', body: JSON.stringify({ requests }) }, token),
   getLists: (token: string) => request<ListItem[]>('/lists', {}, token),
   createList: (token: string, payload: CreateListRequest) =>
     request<ListItem>('/lists', { method: 'POST', body: JSON.stringify(payload) }, token),
-  getProblems: (token: string, listId: string) => request<ProblemWithLatestAttempt[]>(`/lists/${listId}/problems`, {}, token),
+  getProblems: (token: string, listId: string, query: ProblemListQuery = {}) =>
+    request<ProblemWithLatestAttempt[]>(`/lists/${listId}/problems${problemQueryString(query)}`, {}, token),
+  getProblemsCompact: (token: string, listId: string, query: ProblemListQuery = {}) =>
+    request<CompactProblem[]>(`/lists/${listId}/problems${problemQueryString({ ...query, compact: true })}`, {}, token),
+  searchAttempts: (token: string, listId: string, q: string, limit = 20, offset = 0) =>
+    request<AttemptSearchHit[]>(`/lists/${listId}/attempts/search?${new URLSearchParams({ q, limit: String(limit), offset: String(offset) })}`, {}, token),
+  getTemplateProblems: (templateVersion: string) =>
+    request<CatalogProblem[]>(`/templates/${templateVersion}/problems`),
+  getProblemNotes: (token: string, listId: string, neetId: number) =>
+    request<ProblemNotes>(`/lists/${listId}/problems/${neetId}/notes`, {}, token),
+  getProblemChanges: (token: string, listId: string, since: number) =>
+    request<ProblemChanges>(`/lists/${listId}/problems?since=${since}`, {}, token),
   getAttemptsHistory: (token: string, listId: string, neetId: number) =>
     request<Attempt[]>(`/lists/${listId}/problems/${neetId}/attempts`, {}, token),
-  createAttempt: (token: string, listId: string, neetId: number, payload: UpsertAttemptRequest) =>
-    request<Attempt>(`/lists/${listId}/problems/${neetId}/attempts`, { method: 'POST', body: JSON.stringify(payload) }, token),
+  getAttemptsHistoryPage: async (token: string, listId: string, neetId: number, limit: number, cursor?: string | null, count = false): Promise<AttemptHistoryPage> => {
+    const params = new URLSearchParams({ limit: String(limit) });
+    if (cursor) params.set('cursor', cursor);
+    if (count) params.set('count', 'true');
+    const response = await send(`/lists/${listId}/problems/${neetId}/attempts?${params.toString()}`, {}, token);
+    const total = response.headers.get('X-Total-Count');
+    return {
+      attempts: (await response.json()) as Attempt[],
+      nextCursor: response.headers.get('X-Next-Cursor'),
+      total: total === null ? null : Number(total),
+    };
+  },
+  createAttempt: (token: string, listId: string, neetId: number, payload: UpsertAttemptRequest, draftId?: string) =>
+    request<Attempt>(`/lists/${listId}/problems/${neetId}/attempts`, {
+      method: 'POST',
+      body: JSON.stringify(payload),
+      headers: draftId ? { 'Idempotency-Key': draftId } : undefined,
+    }, token),
+  createAttempts: (token: string, listId: string, items: BatchAttemptItem[]) =>
+    request<BatchAttemptResponse>(`/lists/${listId}/attempts:batch`, { method: 'POST', body: JSON.stringify({ items }) }, token),
   patchAttempt: (token: string, attemptId: string, payload: UpsertAttemptRequest) =>
     request<Attempt>(`/attempts/${attemptId}`, { method: 'PATCH', body: JSON.stringify(payload) }, token),
+  exportAttempts: async (token: string, format: 'ndjson' | 'csv' = 'ndjson'): Promise<Blob> =>
+    (await send(`/export/attempts?format=${format}`, {}, token)).blob(),
   deleteAttempt: (token: string, attemptId: string) => request<void>(`/attempts/${attemptId}`, { method: 'DELETE' }, token),
 };
+
+export type ProgressEventHandlers = {
+  onProblem?: (event: ProblemRowChanged) => void;
+  onDashboard?: (event: DashboardChanged) => void;
+};
+
+// EventSource cannot send the Authorization header, so the stream is read with fetch.
+// Resolves when the server closes the stream; callers reconnect and refetch.
+export async function subscribeToProgress(token: string, handlers: ProgressEventHandlers, signal: AbortSignal): Promise<void> {
+  const response = await fetch(joinApiUrl('/events'), {
+    headers: { Authorization: `Bearer ${token}`, Accept: 'text/event-stream' },
+    signal,
+  });
+  if (!response.ok || !response.body) {
+    throw new ApiError(`Event stream failed (${response.status})`, response.status);
+  }
+  const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+    buffer += value;
+    let end = buffer.indexOf('\n\n');
+    while (end >= 0) {
+      const block = buffer.slice(0, end);
+      buffer = buffer.slice(end + 2);
+      end = buffer.indexOf('\n\n');
+      const name = block.match(/^event:(.*)$/m)?.[1].trim();
+      const data = block.split('\n').filter((line) => line.startsWith('data:')).map((line) => line.slice(5)).join('\n');
+      if (!data) continue;
+      if (name === 'problem') handlers.onProblem?.(JSON.parse(data) as ProblemRowChanged);
+      if (name === 'dashboard') handlers.onDashboard?.(JSON.parse(data) as DashboardChanged);
+    }
+  }
+}
@@ -55,6 +55,54 @@ export type components = {
   notes: (string) | null;
   problemUrl: (string) | null;
   updatedAt: string;
+};
+    BatchAttemptItem: {
+  neet250Id: number;
+  attempt: components['schemas']['UpsertAttemptRequest'];
+};
+    BatchAttemptRequest: {
+  items: (components['schemas']['BatchAttemptItem'])[];
+};
+    BatchAttemptResult: {
+  index: number;
+  neet250Id: (number) | null;
+  attempt: (Record<string, unknown>) | null;
+  error: (string) | null;
+};
+    BatchAttemptResponse: {
+  created: number;
+  rejected: number;
+  results: (components['schemas']['BatchAttemptResult'])[];
+};
+    AttemptExportRow: {
+  listId: string;
+  listName: string;
+  neet250Id: number;
+  title: (string) | null;
+  category: (string) | null;
+  difficulty: (string) | null;
+  attemptId: string;
+  solved: (boolean) | null;
+  dateSolved: (string) | null;
+  timeMinutes: (number) | null;
+  attempts: (number) | null;
+  confidence: (string) | null;
+  timeComplexity: (string) | null;
+  spaceComplexity: (string) | null;
+  notes: (string) | null;
+  problemUrl: (string) | null;
+  createdAt: string;
+  updatedAt: string;
+};
+    AttemptSearchHit: {
+  attemptId: string;
+  neet250Id: number;
+  title: (string) | null;
+  rank: number;
+  snippet: string;
+  timeComplexity: (string) | null;
+  spaceComplexity: (string) | null;
+  updatedAt: string;
 };
     ProblemWithLatestAttempt: {
   neet250Id: number;
@@ -64,6 +112,44 @@ export type components = {
   category: string;
   difficulty: string;
   latestAttempt: (Record<string, unknown>) | null;
+};
+    CompactProblem: {
+  neet250Id: number;
+  orderIndex: number;
+  title: string;
+  leetcodeSlug: string;
+  category: string;
+  difficulty: string;
+  latestAttempt: (Record<string, unknown>) | null;
+};
+    CompactLatestAttempt: {
+  solved: (boolean) | null;
+  dateSolved: (string) | null;
+  timeMinutes: (number) | null;
+  attempts: (number) | null;
+  confidence: (string) | null;
+  timeComplexity: (string) | null;
+  spaceComplexity: (string) | null;
+  hasNotes: boolean;
+  updatedAt: string;
+};
+    ProblemNotes: {
+  neet250Id: number;
+  notes: (string) | null;
+  problemUrl: (string) | null;
+};
+    CatalogProblem: {
+  neet250Id: number;
+  orderIndex: number;
+  title: string;
+  leetcodeSlug: string;
+  category: string;
+  difficulty: string;
+};
+    ProblemChanges: {
+  cursor: number;
+  changed: (components['schemas']['ProblemWithLatestAttempt'])[];
+  removed: (number)[];
 };
     LatestAttempt: {
   solved: (boolean) | null;
@@ -104,6 +190,33 @@ export type components = {
   solvedCounts: components['schemas']['DashboardSolvedCounts'];
   activityDays: (string)[];
   rightPanel: components['schemas']['DashboardRightPanel'];
+  activityRanges?: (components['schemas']['ActivityRange'])[];
+};
+    ActivityRange: (Record<string, unknown>)[];
+    ProblemRowChanged: {
+  listId: string;
+  neet250Id: number;
+  latestAttempt: (Record<string, unknown>) | null;
+};
+    DashboardChanged: {
+  scope: components['schemas']['DashboardScope'];
+  listId?: string;
+  changes?: Record<string, unknown>;
+  activityDaysAdded?: (string)[];
+  activityDaysRemoved?: (string)[];
+};
+    DashboardScopeRequest: {
+  scope?: components['schemas']['DashboardScope'];
+  listId?: (string) | null;
+  from?: (string) | null;
+  to?: (string) | null;
+  activity?: string;
+};
+    BatchDashboardRequest: {
+  requests: (components['schemas']['DashboardScopeRequest'])[];
+};
+    BatchDashboardResponse: {
+  dashboards: (components['schemas']['Dashboard'])[];
 };
     ProgressProblem: {
   neet250Id: number;
@@ -7,6 +7,18 @@ export type CreateListRequest = components['schemas']['CreateListRequest'];
 export type ListItem = components['schemas']['List'];
 export type UpsertAttemptRequest = components['schemas']['UpsertAttemptRequest'];
 export type Attempt = components['schemas']['Attempt'];
+export type BatchAttemptItem = components['schemas']['BatchAttemptItem'];
+export type BatchAttemptResponse = components['schemas']['BatchAttemptResponse'];
+export type AttemptExportRow = components['schemas']['AttemptExportRow'];
+export type AttemptSearchHit = components['schemas']['AttemptSearchHit'];
 export type ProblemWithLatestAttempt = components['schemas']['ProblemWithLatestAttempt'];
+export type ProblemChanges = components['schemas']['ProblemChanges'];
+export type CompactProblem = components['schemas']['CompactProblem'];
+export type CatalogProblem = components['schemas']['CatalogProblem'];
+export type ProblemNotes = components['schemas']['ProblemNotes'];
 export type CategoryStat = components['schemas']['DashboardCategorySolvedStats'];
 export type Dashboard = components['schemas']['Dashboard'];
+export type DashboardScopeRequest = components['schemas']['DashboardScopeRequest'];
+export type BatchDashboardResponse = components['schemas']['BatchDashboardResponse'];
+export type ProblemRowChanged = components['schemas']['ProblemRowChanged'];
+export type DashboardChanged = components['schemas']['DashboardChanged'];